@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.api;
+
+import java.util.List;
+
+/**
+ * Used as response for cursor based pagination.
+ * Unlike a page, it doesn't need a count of all rows.
+ *
+ * @param content items of the current slice
+ * @param next cursor of the next slice, null if this is the last slice
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+public record CursorPage<T>(
+        List<T> content,
+        String next
+) {}
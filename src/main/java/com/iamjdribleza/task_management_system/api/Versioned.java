@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.api;
+
+import java.time.Instant;
+
+/**
+ * Used as response of reads that support conditional requests.
+ *
+ * @param body representation to be returned
+ * @param eTag strong entity tag of the representation, taken before it was read
+ * @param lastModified date and time the representation last changed, null if unknown
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+public record Versioned<T>(
+        T body,
+        String eTag,
+        Instant lastModified
+) {}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.auth;
+
+import com.iamjdribleza.task_management_system.enums.AccountStatus;
+import com.iamjdribleza.task_management_system.user.User;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Lightweight and immutable identity of an authenticated user.
+ * Safe to be cached and shared between requests since it holds no entity references.
+ *
+ * @param userId user's database id
+ * @param referenceId user's reference id
+ * @param email account's email
+ * @param roles account's list of roles
+ * @param accountStatus account's status
+ * @param tokenVersion account's current token version
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+public record AuthenticatedIdentity(
+        long userId,
+        UUID referenceId,
+        String email,
+        List<String> roles,
+        AccountStatus accountStatus,
+        int tokenVersion
+) {
+
+    /**
+     * Creates an identity from a user entity.
+     *
+     * @param user User with its authentication and roles loaded.
+     * @return User's identity.
+     */
+    public static AuthenticatedIdentity from(User user) {
+        return new AuthenticatedIdentity(
+                user.getId(),
+                user.getReferenceId(),
+                user.getAuthentication().getEmail(),
+                List.copyOf(user.getRoles()),
+                user.getAccountStatus(),
+                user.getAuthentication().getTokenVersion()
+        );
+    }
+
+    /**
+     * Maps roles to granted authorities.
+     *
+     * @return List of granted authorities.
+     */
+    public List<GrantedAuthority> authorities() {
+        return this.roles.stream()
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList();
+    }
+}
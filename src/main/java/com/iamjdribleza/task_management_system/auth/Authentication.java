@@ -13,6 +13,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
@@ -28,12 +29,16 @@ import java.util.UUID;
 @Getter
 
 @Entity
+@Table(indexes = {
+        // Finds revocations other nodes haven't seen yet
+        @Index(name = "idx_authentication_tokens_revoked_at", columnList = "tokens_revoked_at")
+})
 public class Authentication {
     @Id
     @SequenceGenerator(
             name = "auth_seq_gen",
             sequenceName = "auth_seq",
-            allocationSize = 1
+            allocationSize = 50
     )
     @GeneratedValue(
             strategy = GenerationType.SEQUENCE,
@@ -59,6 +64,16 @@ public class Authentication {
     @Column(nullable = false)
     private String password;
 
+    // Bumped whenever previously issued tokens must stop being accepted
+    @Column(
+            nullable = false,
+            columnDefinition = "integer default 0"
+    )
+    private int tokenVersion;
+
+    // Set whenever tokenVersion is bumped, polled by every node's TokenRevocationRegistry
+    private LocalDateTime tokensRevokedAt;
+
     @OneToOne(mappedBy = "authentication")
     private User user;
 }
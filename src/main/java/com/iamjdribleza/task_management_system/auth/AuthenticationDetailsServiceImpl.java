@@ -6,11 +6,18 @@
 
 package com.iamjdribleza.task_management_system.auth;
 
+import com.iamjdribleza.task_management_system.datasource.ReadYourWrites;
+import com.iamjdribleza.task_management_system.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * Class implementation of UserDetailsService for authentication purposes.
@@ -25,7 +32,12 @@ import org.springframework.stereotype.Service;
 public class AuthenticationDetailsServiceImpl implements UserDetailsService {
 
     private final AuthenticationRepository authenticationRepository;
+    private final UserRepository userRepository;
+    private final IdentityCache identityCache;
+    private final ReadYourWrites readYourWrites;
+    private final PlatformTransactionManager transactionManager;
 
+    // Stays on the primary, a lagging replica could still hold a changed password or a new account's absence
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
 
@@ -35,4 +47,45 @@ public class AuthenticationDetailsServiceImpl implements UserDetailsService {
 
         return new AuthenticationDetails(authentication.getUser());
     }
+
+    /**
+     * Loads user's identity using email, served from the identity cache when present.
+     * Misses are read from a replica, unless the identity changed within the read-your-writes window.
+     *
+     * @param email Account's email.
+     * @return User's identity.
+     * @throws UsernameNotFoundException if email is not found.
+     */
+    public AuthenticatedIdentity loadIdentityByEmail(String email) throws UsernameNotFoundException {
+        return identityCache.getByEmail(email, key -> read(key, () ->
+                authenticationRepository.findWithUserByEmail(key)
+                        .map(authentication -> AuthenticatedIdentity.from(authentication.getUser()))
+                        .orElseThrow(() -> new UsernameNotFoundException("email"))));
+    }
+
+    /**
+     * Loads user's identity using reference id, served from the identity cache when present.
+     * Misses are read from a replica, unless the identity changed within the read-your-writes window.
+     *
+     * @param referenceId User's reference id.
+     * @return User's identity.
+     * @throws UsernameNotFoundException if user is not found.
+     */
+    public AuthenticatedIdentity loadIdentityByReferenceId(UUID referenceId) throws UsernameNotFoundException {
+        return identityCache.getByReferenceId(referenceId, key -> read(key.toString(), () ->
+                userRepository.findWithAuthenticationByReferenceId(key)
+                        .map(AuthenticatedIdentity::from)
+                        .orElseThrow(() -> new UsernameNotFoundException("refId"))));
+    }
+
+    /**
+     * Runs an identity's query in its own transaction, read-only unless the identity changed recently.
+     * Lookups run before the request is authenticated, so the identity's key decides instead of the request's user.
+     */
+    private <T> T read(String key, Supplier<T> query) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(!readYourWrites.isRecentWriter(key));
+
+        return transactionTemplate.execute(status -> query.get());
+    }
 }
@@ -7,6 +7,7 @@
 package com.iamjdribleza.task_management_system.auth;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.Optional;
 
@@ -17,5 +18,14 @@ import java.util.Optional;
  * @version 1.0
  */
 public interface AuthenticationRepository extends JpaRepository<Authentication, Long> {
+    // Authentications of deleted users are left out until they're purged
+    @Query("select a from Authentication a join a.user u where a.email = :email and u.deletedAt is null")
     Optional<Authentication> findByEmail(String email);
-}
\ No newline at end of file
+
+    // Loads authentication, user and roles in a single query
+    @Query("""
+            select a from Authentication a join fetch a.user u left join fetch u.roles
+            where a.email = :email and u.deletedAt is null
+            """)
+    Optional<Authentication> findWithUserByEmail(String email);
+}
@@ -19,5 +19,7 @@ public interface AuthenticationService {
     ResponseToken authenticate(AuthenticationRequestDto credentials);
     void sendEmailVerificationLink(AuthenticationEmailDto authenticationEmailDto);
     User getAuthenticatedUser();
+    AuthenticatedIdentity getAuthenticatedIdentity();
     void updatePassword(AuthenticationPasswordDto authenticationPasswordDto);
+    void revokeTokens(User user);
 }
\ No newline at end of file
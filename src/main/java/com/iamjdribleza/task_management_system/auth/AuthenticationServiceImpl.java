@@ -9,8 +9,10 @@ package com.iamjdribleza.task_management_system.auth;
 import com.iamjdribleza.task_management_system.api.ResponseToken;
 import com.iamjdribleza.task_management_system.exceptions.ResourceNotFoundException;
 import com.iamjdribleza.task_management_system.jwt.JwtTokenServiceImpl;
+import com.iamjdribleza.task_management_system.jwt.TokenRevocationRegistry;
 import com.iamjdribleza.task_management_system.user.User;
 import com.iamjdribleza.task_management_system.user.UserRepository;
+import com.iamjdribleza.task_management_system.util.TransactionUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -18,6 +20,11 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.LocalDateTime;
 
 /**
  * Class implementation of AuthService
@@ -37,6 +44,12 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     private final JwtTokenServiceImpl jwtTokenServiceImpl;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final IdentityCache identityCache;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final AuthenticationDetailsServiceImpl authenticationDetailsService;
+
+    // Request attribute where the authenticated user is kept for the rest of the request
+    private static final String AUTHENTICATED_USER_ATTRIBUTE = AuthenticationServiceImpl.class.getName() + ".user";
 
     /**
      * Logs in and authenticate a user.
@@ -67,18 +80,48 @@ public class AuthenticationServiceImpl implements AuthenticationService {
 
     /**
      * Gets authenticated user from security context and retrieve user from the database.
+     * User is retrieved once per request and reused by every call within the same request.
      *
      * @return Current or authenticated user.
      */
     @Override
     public User getAuthenticatedUser() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+
+        // Reuse user already retrieved within this request
+        if (requestAttributes != null
+                && requestAttributes.getAttribute(AUTHENTICATED_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof User user)
+            return user;
+
         org.springframework.security.core.Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String email = authentication.getName();
 
-        Authentication auth = authenticationRepository.findByEmail(email)
+        // Authentication, user and roles in a single query
+        User user = authenticationRepository.findWithUserByEmail(email)
+                .map(Authentication::getUser)
                 .orElseThrow(() -> new ResourceNotFoundException("Email not found"));
 
-        return auth.getUser();
+        if (requestAttributes != null)
+            requestAttributes.setAttribute(AUTHENTICATED_USER_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+
+        return user;
+    }
+
+    /**
+     * Gets identity of the authenticated user.
+     * Identity is resolved once when the token is authenticated, so this doesn't query the database.
+     *
+     * @return Current or authenticated user's identity.
+     */
+    @Override
+    public AuthenticatedIdentity getAuthenticatedIdentity() {
+        org.springframework.security.core.Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication.getDetails() instanceof AuthenticatedIdentity identity)
+            return identity;
+
+        // Served from the identity cache, hits the database only on a miss
+        return authenticationDetailsService.loadIdentityByEmail(authentication.getName());
     }
 
     /**
@@ -99,6 +142,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
      *
      * @param authenticationPasswordDto User's password details.
      */
+    @Transactional
     @Override
     public void updatePassword(AuthenticationPasswordDto authenticationPasswordDto) {
         // Get authenticated user
@@ -113,6 +157,27 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         // Set the new password
         authentication.setPassword(encryptedPassword);
 
+        // Invalidate tokens issued with the old password
+        this.revokeTokens(user);
+    }
+
+    /**
+     * Revokes all tokens issued to a user by bumping the account's token version.
+     *
+     * @param user User whose tokens are revoked.
+     */
+    @Transactional
+    @Override
+    public void revokeTokens(User user) {
+        Authentication authentication = user.getAuthentication();
+
+        int tokenVersion = authentication.getTokenVersion() + 1;
+        authentication.setTokenVersion(tokenVersion);
+        authentication.setTokensRevokedAt(LocalDateTime.now());
+
         authenticationRepository.save(authentication);
+
+        identityCache.evict(authentication.getEmail(), user.getReferenceId());
+        TransactionUtil.afterCommit(() -> tokenRevocationRegistry.revokeBefore(user.getReferenceId(), tokenVersion));
     }
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.auth;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Password encoder running a bounded number of hashes at once, the rest wait in line.
+ *
+ * Hashing is CPU-bound and a virtual thread isn't preempted while it hashes. Without a bound,
+ * a burst of logins occupies every carrier thread and stalls all other requests until it's hashed.
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder passwordEncoder;
+    private final Semaphore permits;
+
+    public BoundedPasswordEncoder(PasswordEncoder passwordEncoder, int maximumConcurrentHashes) {
+        this.passwordEncoder = passwordEncoder;
+        this.permits = new Semaphore(maximumConcurrentHashes, true);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        permits.acquireUninterruptibly();
+        try {
+            return passwordEncoder.encode(rawPassword);
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        permits.acquireUninterruptibly();
+        try {
+            return passwordEncoder.matches(rawPassword, encodedPassword);
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.auth;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.iamjdribleza.task_management_system.datasource.ReadYourWrites;
+import com.iamjdribleza.task_management_system.util.CacheUtil;
+import com.iamjdribleza.task_management_system.util.TransactionUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Bounded in-process cache of authenticated identities.
+ * Identities are keyed by email and by user's reference id, and are evicted by size and time-to-live.
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+
+@Component
+public class IdentityCache {
+
+    private final AsyncCache<String, AuthenticatedIdentity> identitiesByEmail;
+    private final AsyncCache<UUID, AuthenticatedIdentity> identitiesByReferenceId;
+    private final ReadYourWrites readYourWrites;
+
+    public IdentityCache(@Value("${app.identity-cache.maximum-size:10000}") long maximumSize,
+                         @Value("${app.identity-cache.ttl-seconds:300}") long ttlSeconds,
+                         MeterRegistry meterRegistry,
+                         ReadYourWrites readYourWrites) {
+
+        this.readYourWrites = readYourWrites;
+
+        this.identitiesByEmail = newCache(maximumSize, ttlSeconds);
+        this.identitiesByReferenceId = newCache(maximumSize, ttlSeconds);
+
+        // Export hit, miss and eviction counters
+        CaffeineCacheMetrics.monitor(meterRegistry, identitiesByEmail, "identity.email");
+        CaffeineCacheMetrics.monitor(meterRegistry, identitiesByReferenceId, "identity.reference-id");
+    }
+
+    /**
+     * Gets an identity using email, loads it when absent.
+     *
+     * @param email Account's email.
+     * @param loader Loads the identity on a cache miss.
+     * @return User's identity.
+     */
+    public AuthenticatedIdentity getByEmail(String email, Function<String, AuthenticatedIdentity> loader) {
+        AuthenticatedIdentity identity = CacheUtil.get(identitiesByEmail, email, loader);
+        identitiesByReferenceId.synchronous().put(identity.referenceId(), identity);
+
+        return identity;
+    }
+
+    /**
+     * Gets an identity using user's reference id, loads it when absent.
+     *
+     * @param referenceId User's reference id.
+     * @param loader Loads the identity on a cache miss.
+     * @return User's identity.
+     */
+    public AuthenticatedIdentity getByReferenceId(UUID referenceId, Function<UUID, AuthenticatedIdentity> loader) {
+        AuthenticatedIdentity identity = CacheUtil.get(identitiesByReferenceId, referenceId, loader);
+        identitiesByEmail.synchronous().put(identity.email(), identity);
+
+        return identity;
+    }
+
+    /**
+     * Evicts an identity now and again once the current transaction commits,
+     * so a concurrent lookup can't keep the uncommitted state cached.
+     * The user's next lookups read from the primary, so a lagging replica can't cache the previous state either.
+     *
+     * @param email Account's email.
+     * @param referenceId User's reference id.
+     */
+    public void evict(String email, UUID referenceId) {
+        Runnable eviction = () -> {
+            identitiesByEmail.synchronous().invalidate(email);
+            identitiesByReferenceId.synchronous().invalidate(referenceId);
+        };
+
+        eviction.run();
+        TransactionUtil.afterCommit(() -> {
+            readYourWrites.recordWrite(email);
+            readYourWrites.recordWrite(referenceId.toString());
+            eviction.run();
+        });
+    }
+
+    /**
+     * Evicts an identity using user's reference id only.
+     *
+     * @param referenceId User's reference id.
+     */
+    public void evict(UUID referenceId) {
+        AuthenticatedIdentity identity = identitiesByReferenceId.synchronous().getIfPresent(referenceId);
+
+        if (identity != null)
+            this.evict(identity.email(), referenceId);
+        else
+            identitiesByReferenceId.synchronous().invalidate(referenceId);
+    }
+
+    /**
+     * Combined hit, miss and eviction counters of both keys.
+     *
+     * @return Cache statistics.
+     */
+    public CacheStats stats() {
+        return identitiesByEmail.synchronous().stats().plus(identitiesByReferenceId.synchronous().stats());
+    }
+
+    private static <K> AsyncCache<K, AuthenticatedIdentity> newCache(long maximumSize, long ttlSeconds) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .buildAsync();
+    }
+}
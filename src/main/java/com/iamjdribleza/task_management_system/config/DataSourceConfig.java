@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.config;
+
+import com.iamjdribleza.task_management_system.datasource.ConnectionLimitingDataSource;
+import com.iamjdribleza.task_management_system.datasource.ReadYourWrites;
+import com.iamjdribleza.task_management_system.datasource.ReplicaRoutingDataSource;
+import com.iamjdribleza.task_management_system.datasource.WriteTrackingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DataSource Configuration
+ * - Writes and read-write transactions go to the primary configured by spring.datasource
+ * - Read-only transactions go to the replicas configured by app.datasource.replica, or to the primary without them
+ *
+ * Connections are fetched on the first statement, once the transaction's read-only flag is known,
+ * so transactions served from caches don't hold a connection at all.
+ * With spring.threads.virtual.enabled, connections are handed out through a semaphore sized to each pool.
+ * Two local databases can stand in for a primary and its replica, with app.datasource.replica.lag-query=select 0.
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+
+@Configuration
+public class DataSourceConfig {
+
+    // Replay lag in milliseconds, 0 once every received change is replayed or when not a standby
+    private static final String POSTGRES_LAG_QUERY = """
+            select case
+                when pg_is_in_recovery() and pg_last_wal_receive_lsn() is distinct from pg_last_wal_replay_lsn()
+                then (extract(epoch from now() - pg_last_xact_replay_timestamp()) * 1000)::bigint
+                else 0
+            end
+            """;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties){
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+
+        // Named up front, Hikari names a pool only once it starts, a configured name still wins
+        primary.setPoolName("primary");
+
+        return primary;
+    }
+
+    /**
+     * Primary's connections, limited to the pool's size when requests run on virtual threads.
+     * The pool itself is closed as primaryDataSource.
+     */
+    @Bean(destroyMethod = "")
+    public DataSource primaryConnections(HikariDataSource primaryDataSource, MeterRegistry meterRegistry){
+        if (!virtualThreads)
+            return primaryDataSource;
+
+        return new ConnectionLimitingDataSource(primaryDataSource, primaryDataSource.getMaximumPoolSize(),
+                primaryDataSource.getConnectionTimeout(), primaryDataSource.getPoolName(), meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.datasource.replica", name = "urls")
+    public ReplicaRoutingDataSource replicaDataSource(@Qualifier("primaryConnections") DataSource primaryConnections,
+                                                      DataSourceProperties properties,
+                                                      ReadYourWrites readYourWrites,
+                                                      MeterRegistry meterRegistry,
+                                                      @Value("${app.datasource.replica.urls}") List<String> urls,
+                                                      @Value("${app.datasource.replica.username:${spring.datasource.username:}}") String username,
+                                                      @Value("${app.datasource.replica.password:${spring.datasource.password:}}") String password,
+                                                      @Value("${app.datasource.replica.maximum-pool-size:10}") int maximumPoolSize,
+                                                      @Value("${app.datasource.replica.connection-timeout-millis:250}") long connectionTimeoutMillis,
+                                                      @Value("${app.datasource.replica.lag-query:}") String lagQuery,
+                                                      @Value("${app.datasource.replica.max-lag-millis:1000}") long maxLagMillis,
+                                                      @Value("${app.datasource.replica.lag-check-millis:1000}") long lagCheckMillis){
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + i);
+            replica.setJdbcUrl(urls.get(i));
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setMaximumPoolSize(maximumPoolSize);
+
+            // Waits briefly, reads fall back to the primary instead of queueing on a replica that went down
+            replica.setConnectionTimeout(connectionTimeoutMillis);
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+
+        return new ReplicaRoutingDataSource(primaryConnections, replicas, readYourWrites, meterRegistry,
+                lagQuery.isBlank()? POSTGRES_LAG_QUERY: lagQuery, maxLagMillis, lagCheckMillis, virtualThreads);
+    }
+
+    /**
+     * Data source used by JPA and JDBC, routes each connection by its read-only flag.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryConnections") DataSource primaryConnections,
+                                 ObjectProvider<ReplicaRoutingDataSource> replicaDataSource,
+                                 ReadYourWrites readYourWrites){
+
+        ReplicaRoutingDataSource replicas = replicaDataSource.getIfAvailable();
+
+        if (replicas == null)
+            return new LazyConnectionDataSourceProxy(primaryConnections);
+
+        // Writers are only tracked when their reads could go to a replica
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(new WriteTrackingDataSource(primaryConnections, readYourWrites));
+        dataSource.setReadOnlyDataSource(replicas);
+
+        return dataSource;
+    }
+}
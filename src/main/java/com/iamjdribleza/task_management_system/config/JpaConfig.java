@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * JPA Configuration
+ * - Enables JDBC batching with ordered inserts and updates
+ * - Migrates id sequences to pooled allocation before Hibernate starts
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+
+@Configuration
+public class JpaConfig {
+
+    // Number of statements sent to the database in a single batch
+    @Value("${app.jpa.batch-size:50}")
+    private int batchSize;
+
+    @Bean
+    public HibernatePropertiesCustomizer batchingHibernatePropertiesCustomizer(){
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            hibernateProperties.put(AvailableSettings.ORDER_INSERTS, true);
+            hibernateProperties.put(AvailableSettings.ORDER_UPDATES, true);
+            hibernateProperties.put(AvailableSettings.BATCH_VERSIONED_DATA, true);
+        };
+    }
+
+    @Bean
+    public SequenceMigration sequenceMigration(DataSource dataSource){
+        return new SequenceMigration(dataSource);
+    }
+
+    /**
+     * Makes the EntityManagerFactory wait for the sequence migration.
+     */
+    @Configuration
+    static class EntityManagerFactoryDependsOnSequenceMigration extends EntityManagerFactoryDependsOnPostProcessor {
+        EntityManagerFactoryDependsOnSequenceMigration() {
+            super("sequenceMigration");
+        }
+    }
+}
@@ -6,8 +6,9 @@
 
 package com.iamjdribleza.task_management_system.config;
 
+import com.iamjdribleza.task_management_system.jwt.CachingJwtDecoder;
 import com.nimbusds.jose.jwk.source.ImmutableSecret;
-import jakarta.annotation.PostConstruct;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -35,6 +36,13 @@ public class JwtConfig {
     @Value("${jwt.secret.key}")
     private String secretKey;
 
+    // Caches verified tokens to skip repeated signature verification
+    @Value("${app.jwt.decoder-cache.enabled:false}")
+    private boolean decoderCacheEnabled;
+
+    @Value("${app.jwt.decoder-cache.maximum-weight-bytes:16777216}")
+    private long decoderCacheMaximumWeightBytes;
+
     @Bean
     public SecretKey secretKey() {
         return new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
@@ -46,9 +54,14 @@ public class JwtConfig {
     }
 
     @Bean
-    public JwtDecoder jwtDecoder(SecretKey secretKey){
-        return NimbusJwtDecoder.withSecretKey(secretKey)
+    public JwtDecoder jwtDecoder(SecretKey secretKey, MeterRegistry meterRegistry){
+        JwtDecoder jwtDecoder = NimbusJwtDecoder.withSecretKey(secretKey)
                 .macAlgorithm(MacAlgorithm.HS256)
                 .build();
+
+        if (!decoderCacheEnabled)
+            return jwtDecoder;
+
+        return new CachingJwtDecoder(jwtDecoder, decoderCacheMaximumWeightBytes, meterRegistry);
     }
 }
@@ -6,8 +6,11 @@
 
 package com.iamjdribleza.task_management_system.config;
 
-import com.iamjdribleza.task_management_system.filter.JwtAuthenticationFilter;
+import com.iamjdribleza.task_management_system.auth.BoundedPasswordEncoder;
+import com.iamjdribleza.task_management_system.jwt.JwtAuthenticationEntryPoint;
+import com.iamjdribleza.task_management_system.jwt.JwtIdentityAuthenticationConverter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -21,10 +24,15 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.server.resource.web.BearerTokenResolver;
+import org.springframework.security.oauth2.server.resource.web.DefaultBearerTokenResolver;
 import org.springframework.security.web.SecurityFilterChain;
-import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -48,8 +56,9 @@ public class SecurityConfig {
             "/api/v1/auth/*"
     };
 
-    private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final JwtDecoder jwtDecoder;
+    private final JwtIdentityAuthenticationConverter jwtIdentityAuthenticationConverter;
+    private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity) throws Exception {
@@ -71,16 +80,52 @@ public class SecurityConfig {
                 )
                 .sessionManagement(httpSecuritySessionManagementConfigurer ->
                         httpSecuritySessionManagementConfigurer.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-                .oauth2ResourceServer(
-                        oauth2 -> oauth2.jwt(jwt -> jwt.decoder(jwtDecoder))
+                // Token is decoded once here and shared through the security context
+                .oauth2ResourceServer(oauth2 -> oauth2
+                        .bearerTokenResolver(bearerTokenResolver())
+                        .authenticationEntryPoint(jwtAuthenticationEntryPoint)
+                        .jwt(jwt -> jwt
+                                .decoder(jwtDecoder)
+                                .jwtAuthenticationConverter(jwtIdentityAuthenticationConverter))
                 )
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .exceptionHandling(exceptionHandling ->
+                        exceptionHandling.authenticationEntryPoint(jwtAuthenticationEntryPoint))
                 .build();
     }
 
+    /**
+     * Resolves bearer token from authorization header.
+     * Ignores token on public endpoints so an expired token can't block login or refresh.
+     *
+     * @return BearerTokenResolver
+     */
+    private BearerTokenResolver bearerTokenResolver() {
+        DefaultBearerTokenResolver defaultBearerTokenResolver = new DefaultBearerTokenResolver();
+        RequestMatcher publicEndpoints = new OrRequestMatcher(Arrays.stream(PUBLIC_ENDPOINTS)
+                .map(endpoint -> (RequestMatcher) PathPatternRequestMatcher.withDefaults().matcher(HttpMethod.POST, endpoint))
+                .toList());
+
+        return request -> publicEndpoints.matches(request)? null: defaultBearerTokenResolver.resolve(request);
+    }
+
+    /**
+     * BCrypt password encoder, bounded to half the processors when requests run on virtual threads.
+     *
+     * @param virtualThreads Whether requests run on virtual threads.
+     * @param maximumConcurrentHashes Hashes run at once, 0 for half the processors.
+     * @return PasswordEncoder
+     */
     @Bean
-    public PasswordEncoder passwordEncoder(){
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                           @Value("${app.security.password-hashing.maximum-concurrent:0}") int maximumConcurrentHashes){
+
+        if (!virtualThreads)
+            return new BCryptPasswordEncoder();
+
+        // Leaves carrier threads free for requests that aren't hashing
+        int permits = (maximumConcurrentHashes > 0)? maximumConcurrentHashes: Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), permits);
     }
 
     @Bean
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Migrates id sequences created with an increment of 1 to the pooled allocation size of the entities.
+ * Runs before the EntityManagerFactory is built, so Hibernate never sees a mismatched increment.
+ *
+ * Ids stay unique without resetting the sequence: the next value becomes last value + increment,
+ * and the pooled optimizer only hands out ids above the previous last value.
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+public class SequenceMigration implements InitializingBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SequenceMigration.class);
+
+    // Must match allocationSize of the entities' sequence generators
+    public static final int ALLOCATION_SIZE = 50;
+
+    private static final List<String> SEQUENCES = List.of("task_seq", "user_seq", "auth_seq");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SequenceMigration(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        for (String sequence : SEQUENCES) {
+            List<String> increments = jdbcTemplate.queryForList(
+                    "select increment from information_schema.sequences where lower(sequence_name) = ?",
+                    String.class,
+                    sequence
+            );
+
+            // Not created yet, Hibernate creates it with the right increment
+            if (increments.isEmpty() || Integer.parseInt(increments.getFirst()) == ALLOCATION_SIZE)
+                continue;
+
+            jdbcTemplate.execute("alter sequence " + sequence + " increment by " + ALLOCATION_SIZE);
+            LOGGER.info("Sequence {} migrated to increment by {}", sequence, ALLOCATION_SIZE);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+
+/**
+ * Remembers users who wrote recently, so their reads go to the primary until replicas have caught up.
+ * Users are keyed by their authenticated name, requests without one are never kept on the primary.
+ *
+ * Names are remembered by the node that took the write only. The writer's client is also given a cookie holding
+ * the time of the write, so its next requests stay on the primary whichever node serves them.
+ * Keys written on behalf of another user, e.g. by an admin, have no cookie and are only kept on the writing node.
+ * The cookie is only sent over HTTPS if app.datasource.read-your-writes-cookie-secure is set,
+ * which follows server.servlet.session.cookie.secure unless set itself.
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+
+@Component
+public class ReadYourWrites {
+
+    // Time of the client's last write, in epoch milliseconds
+    public static final String LAST_WRITE_COOKIE = "lastWrite";
+
+    private final Cache<String, Boolean> recentWriters;
+    private final long windowMillis;
+    private final boolean secureCookie;
+
+    public ReadYourWrites(@Value("${app.datasource.read-your-writes-millis:5000}") long windowMillis,
+                          @Value("${app.datasource.read-your-writes-maximum-size:100000}") long maximumSize,
+                          @Value("${app.datasource.read-your-writes-cookie-secure:${server.servlet.session.cookie.secure:false}}") boolean secureCookie) {
+
+        this.windowMillis = windowMillis;
+        this.secureCookie = secureCookie;
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(windowMillis))
+                .build();
+    }
+
+    /**
+     * Keeps the authenticated user's reads on the primary for the window, on every node if the write came from a request.
+     */
+    public void recordWrite() {
+        String name = currentName();
+
+        if (name != null) {
+            recordWrite(name);
+            sendLastWriteCookie();
+        }
+    }
+
+    /**
+     * Keeps reads of a key on the primary for the window, used when a user's data is written by someone else.
+     *
+     * @param name User's authenticated name, or another key the user's data is read by.
+     */
+    public void recordWrite(String name) {
+        recentWriters.put(name, Boolean.TRUE);
+    }
+
+    /**
+     * Whether the authenticated user wrote within the window.
+     *
+     * @return true if reads must go to the primary.
+     */
+    public boolean isRecentWriter() {
+        String name = currentName();
+
+        return name != null && (recentWriters.getIfPresent(name) != null || hasRecentWriteCookie());
+    }
+
+    /**
+     * Whether a key was written within the window on this node.
+     * The request's cookie isn't checked, it tells about the authenticated user's writes, not about the key.
+     *
+     * @param name User's authenticated name, or another key the user's data is read by.
+     * @return true if reads of the key must go to the primary.
+     */
+    public boolean isRecentWriter(String name) {
+        return recentWriters.getIfPresent(name) != null;
+    }
+
+    private void sendLastWriteCookie() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes))
+            return;
+
+        HttpServletResponse response = attributes.getResponse();
+
+        // Streamed responses may be committed before their transaction is
+        if (response == null || response.isCommitted())
+            return;
+
+        ResponseCookie lastWriteCookie = ResponseCookie.from(LAST_WRITE_COOKIE, Long.toString(System.currentTimeMillis()))
+                .httpOnly(true)
+                .secure(secureCookie)
+                .path("/")
+                .maxAge(Math.ceilDiv(windowMillis, 1000))
+                .sameSite("Strict")
+                .build();
+
+        response.addHeader(HttpHeaders.SET_COOKIE, lastWriteCookie.toString());
+    }
+
+    /**
+     * Whether the current request carries the time of a write within the window.
+     * A client can only keep its own reads on the primary with the cookie, so it isn't signed.
+     */
+    private boolean hasRecentWriteCookie() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes))
+            return false;
+
+        HttpServletRequest request = attributes.getRequest();
+
+        if (request.getCookies() == null)
+            return false;
+
+        for (Cookie cookie : request.getCookies()) {
+            if (!cookie.getName().equals(LAST_WRITE_COOKIE))
+                continue;
+
+            try {
+                long elapsedMillis = System.currentTimeMillis() - Long.parseLong(cookie.getValue());
+
+                // Clocks of the nodes may differ slightly, a write just ahead of this node's clock is still recent
+                return Math.abs(elapsedMillis) < windowMillis;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+
+        return false;
+    }
+
+    private static String currentName() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        return (authentication == null)? null: authentication.getName();
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.datasource;
+
+import com.iamjdribleza.task_management_system.util.ThreadUtil;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Read-only data source spreading connections round-robin over a pool of replicas.
+ *
+ * Falls back to the primary when the authenticated user wrote recently, or when no replica is within the allowed lag.
+ * Each replica's lag is measured in the background, a replica that can't be measured isn't used until it can.
+ * With virtual threads, each replica's connections are limited to its pool's size like the primary's.
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements InitializingBean, DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    // Lag of a replica that couldn't be measured
+    private static final long UNKNOWN_LAG = Long.MAX_VALUE;
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReadYourWrites readYourWrites;
+    private final String lagQuery;
+    private final long maxLagMillis;
+    private final long lagCheckMillis;
+    private final Counter primaryFallbacks;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final ScheduledExecutorService executorService;
+
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    List<HikariDataSource> replicas,
+                                    ReadYourWrites readYourWrites,
+                                    MeterRegistry meterRegistry,
+                                    String lagQuery,
+                                    long maxLagMillis,
+                                    long lagCheckMillis,
+                                    boolean virtualThreads) {
+
+        this.primary = primary;
+        this.replicas = replicas.stream()
+                .map(replica -> new Replica(replica, virtualThreads
+                        ? new ConnectionLimitingDataSource(replica, replica.getMaximumPoolSize(), replica.getConnectionTimeout(), replica.getPoolName(), meterRegistry)
+                        : replica))
+                .toList();
+        this.readYourWrites = readYourWrites;
+        this.lagQuery = lagQuery;
+        this.maxLagMillis = maxLagMillis;
+        this.lagCheckMillis = lagCheckMillis;
+
+        this.executorService = ThreadUtil.newScheduledExecutor("replica-lag-check", virtualThreads);
+
+        this.primaryFallbacks = Counter.builder("datasource.replica.fallbacks")
+                .description("Read-only connections served by the primary")
+                .register(meterRegistry);
+
+        for (Replica replica : this.replicas)
+            Gauge.builder("datasource.replica.lag", replica, r -> (r.lagMillis == UNKNOWN_LAG)? Double.NaN: r.lagMillis)
+                    .description("Replica's replay lag behind the primary")
+                    .baseUnit("milliseconds")
+                    .tag("replica", replica.dataSource.getPoolName())
+                    .register(meterRegistry);
+    }
+
+    /**
+     * Measures every replica before the first read, then keeps measuring them periodically.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        checkLag(true);
+        executorService.scheduleWithFixedDelay(() -> checkLag(false), lagCheckMillis, lagCheckMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        executorService.shutdownNow();
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!readYourWrites.isRecentWriter()) {
+            int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+
+            for (int i = 0; i < replicas.size(); i++) {
+                Replica replica = replicas.get((start + i) % replicas.size());
+
+                if (replica.lagMillis > maxLagMillis)
+                    continue;
+
+                try {
+                    return replica.connections.getConnection();
+                } catch (SQLException e) {
+                    // Skipped until the next check finds it reachable
+                    replica.lagMillis = UNKNOWN_LAG;
+                    LOGGER.warn("Replica {} is unreachable", replica.dataSource.getPoolName(), e);
+                }
+            }
+        }
+
+        primaryFallbacks.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new UnsupportedOperationException("Replicas use their pools' credentials");
+    }
+
+    private void checkLag(boolean initial) {
+        for (Replica replica : replicas) {
+            try {
+                Long lagMillis = replica.jdbcTemplate.queryForObject(lagQuery, Long.class);
+                replica.lagMillis = (lagMillis == null)? UNKNOWN_LAG: Math.max(lagMillis, 0);
+            } catch (DataAccessException e) {
+                // Logged once when it goes down, not on every check
+                if (initial || replica.lagMillis != UNKNOWN_LAG)
+                    LOGGER.warn("Lag of replica {} can't be measured", replica.dataSource.getPoolName(), e);
+
+                replica.lagMillis = UNKNOWN_LAG;
+            }
+        }
+    }
+
+    private static final class Replica {
+        private final HikariDataSource dataSource;
+        private final DataSource connections;
+        private final JdbcTemplate jdbcTemplate;
+
+        // Written by the lag check, read by every read-only connection
+        private volatile long lagMillis = UNKNOWN_LAG;
+
+        private Replica(HikariDataSource dataSource, DataSource connections) {
+            this.dataSource = dataSource;
+            this.connections = connections;
+            this.jdbcTemplate = new JdbcTemplate(connections);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.datasource;
+
+import com.iamjdribleza.task_management_system.util.TransactionUtil;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Primary's data source, records the authenticated user as a recent writer once a connection's transaction commits.
+ * Only asked for connections that aren't read-only, so reads falling back to the primary aren't recorded.
+ * Connections outside a transaction only read, e.g. versions checked against the primary, and aren't recorded either.
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+public class WriteTrackingDataSource extends DelegatingDataSource {
+
+    private final ReadYourWrites readYourWrites;
+
+    public WriteTrackingDataSource(DataSource primary, ReadYourWrites readYourWrites) {
+        super(primary);
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Connection connection = super.getConnection();
+
+        // Window starts once the write is visible on the primary
+        if (TransactionSynchronizationManager.isActualTransactionActive())
+            TransactionUtil.afterCommit(readYourWrites::recordWrite);
+
+        return connection;
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.enums;
+
+/**
+ * Outcome of a single item on a bulk request
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+public enum BulkItemStatus {
+    CREATED,
+    UPDATED,
+    DELETED,
+    NOT_FOUND,
+    PERMISSION_DENIED,
+    INVALID
+}
@@ -0,0 +1,19 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.enums;
+
+/**
+ * Operations that can be applied on a bulk request
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+public enum BulkOperation {
+    CREATE,
+    UPDATE,
+    DELETE
+}
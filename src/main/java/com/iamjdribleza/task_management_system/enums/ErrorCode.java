@@ -16,5 +16,7 @@ public enum ErrorCode {
     RESOURCE_NOT_FOUND,
     BAD_CREDENTIALS,
     INVALID_ARGUMENTS,
-    REQUEST_FORBIDDEN
+    REQUEST_FORBIDDEN,
+    INVALID_TOKEN,
+    PRECONDITION_FAILED
 }
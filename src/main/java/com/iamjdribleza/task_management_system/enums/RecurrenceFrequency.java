@@ -0,0 +1,19 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.enums;
+
+/**
+ * How often a recurring task repeats
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+public enum RecurrenceFrequency {
+    DAILY,
+    WEEKLY,
+    MONTHLY
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.enums;
+
+/**
+ * Kinds of changes that can happen to a task
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+public enum TaskEventType {
+    CREATED,
+    UPDATED,
+    DELETED,
+
+    // Moved to the archive, still counted in the calendar but no longer read or written as a live task
+    ARCHIVED
+}
@@ -9,6 +9,7 @@ package com.iamjdribleza.task_management_system.exceptions;
 import com.iamjdribleza.task_management_system.enums.ErrorCode;
 import com.iamjdribleza.task_management_system.util.ProblemDetailUtil;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
@@ -54,6 +55,31 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(problemDetail);
     }
 
+    /**
+     * Generates a response for a request argument that can't be processed
+     *
+     * @param e InvalidArgumentException
+     * @param request HttpServletRequest for request references like URL
+     * @return ResponseEntity of ProblemDetail for more details on client
+     */
+    @ExceptionHandler(InvalidArgumentException.class)
+    public ResponseEntity<ProblemDetail> invalidArgumentException(InvalidArgumentException e,
+                                                                  HttpServletRequest request) {
+
+        ProblemDetail problemDetail = ProblemDetailUtil.details(
+                "invalid-arguments",
+                HttpStatus.BAD_REQUEST,
+                "Invalid Arguments",
+                e.getMessage(),
+                HttpStatus.BAD_REQUEST.value(),
+                "urn:problem:invoked-by:"+request.getRequestURI(),
+                ErrorCode.INVALID_ARGUMENTS.name(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(problemDetail);
+    }
+
     /**
      * Generates a response for a resource that doesn't exist in the database
      *
@@ -104,6 +130,34 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(problemDetail);
     }
 
+    /**
+     * Generates a response for a conditional write whose entity tag is stale
+     *
+     * @param e PreconditionFailedException
+     * @param request HttpServletRequest for request references like URL
+     * @return ResponseEntity of ProblemDetail for more details on client
+     */
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ProblemDetail> preconditionFailedException(PreconditionFailedException e,
+                                                                     HttpServletRequest request) {
+
+        return preconditionFailed(e.getMessage(), request);
+    }
+
+    /**
+     * Generates a response for a write that lost a race with a concurrent write of the same resource
+     *
+     * @param e OptimisticLockingFailureException
+     * @param request HttpServletRequest for request references like URL
+     * @return ResponseEntity of ProblemDetail for more details on client
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ProblemDetail> optimisticLockingFailureException(OptimisticLockingFailureException e,
+                                                                           HttpServletRequest request) {
+
+        return preconditionFailed("Resource was changed by another request", request);
+    }
+
     /**
      * Generates a response for authentication
      *
@@ -128,4 +182,19 @@ public class GlobalExceptionHandler {
 
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(problemDetail);
     }
+
+    private static ResponseEntity<ProblemDetail> preconditionFailed(String detail, HttpServletRequest request) {
+        ProblemDetail problemDetail = ProblemDetailUtil.details(
+                "precondition-failed",
+                HttpStatus.PRECONDITION_FAILED,
+                "Precondition Failed",
+                detail,
+                HttpStatus.PRECONDITION_FAILED.value(),
+                "urn:problem:invoked-by:"+request.getRequestURI(),
+                ErrorCode.PRECONDITION_FAILED.name(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(problemDetail);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.exceptions;
+
+import java.io.Serial;
+
+/**
+ * Exception class for request arguments that can't be processed.
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+public class InvalidArgumentException extends RuntimeException{
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public InvalidArgumentException(String message){
+        super(message);
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.exceptions;
+
+import java.io.Serial;
+
+/**
+ * Exception class for a conditional write whose entity tag doesn't match the resource's current version.
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+public class PreconditionFailedException extends RuntimeException{
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public PreconditionFailedException(String message){
+        super(message);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Decorates a JwtDecoder with a cache of successfully verified tokens.
+ * Tokens are keyed by their SHA-256 digest, so raw tokens are never kept as keys,
+ * and each entry expires when its token does.
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    // Rough size of a decoded token besides its raw value (claims, headers, entry)
+    private static final int ENTRY_OVERHEAD_BYTES = 1024;
+
+    private final JwtDecoder delegate;
+    private final Cache<String, Jwt> verifiedTokens;
+
+    /**
+     * @param delegate Decoder that verifies tokens on a cache miss.
+     * @param maximumWeightBytes Approximate upper bound of memory used by cached tokens.
+     * @param meterRegistry Registry where saved verifications are exported.
+     */
+    public CachingJwtDecoder(JwtDecoder delegate, long maximumWeightBytes, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumWeight(maximumWeightBytes)
+                .weigher((String digest, Jwt jwt) -> ENTRY_OVERHEAD_BYTES + jwt.getTokenValue().length() * 2)
+                .expireAfter(Expiry.creating((String digest, Jwt jwt) -> timeToLive(jwt)))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt.verified-tokens");
+
+        // Every hit is a signature verification and claims parsing that didn't happen
+        FunctionCounter.builder("jwt.verifications.saved", verifiedTokens, cache -> cache.stats().hitCount())
+                .description("Token verifications served from the verified-token cache")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        return verifiedTokens.get(digest(token), digest -> delegate.decode(token));
+    }
+
+    /**
+     * Computes how long a token stays cached.
+     *
+     * @param jwt Verified token.
+     * @return Time until token's expiration, zero if it has none.
+     */
+    private static Duration timeToLive(Jwt jwt) {
+        Instant expiresAt = jwt.getExpiresAt();
+
+        if (expiresAt == null)
+            return Duration.ZERO;
+
+        Duration timeToLive = Duration.between(Instant.now(), expiresAt);
+
+        return timeToLive.isNegative()? Duration.ZERO: timeToLive;
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.jwt;
+
+import com.iamjdribleza.task_management_system.enums.ErrorCode;
+import com.iamjdribleza.task_management_system.util.ProblemDetailUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Sends problem details to client when a request has a missing or invalid token.
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+
+@Component
+public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
+
+    @Override
+    public void commence(HttpServletRequest request,
+                         HttpServletResponse response,
+                         AuthenticationException authException) throws IOException {
+
+        // Returns 401 Unauthorized if token is expired or revoked
+        // This will be handled in front-end using interceptor(response) and will check header attribute
+        // as token expired, it will automatically send request for new token
+        if (authException instanceof InvalidBearerTokenException) {
+            ProblemDetail responseError = ProblemDetailUtil.details(
+                    "invalid-token",
+                    HttpStatus.UNAUTHORIZED,
+                    "Invalid Token",
+                    authException.getMessage(),
+                    HttpStatus.UNAUTHORIZED.value(),
+                    "urn:problem:invalid-token",
+                    ErrorCode.INVALID_TOKEN.name(),
+                    request.getRequestURI()
+            );
+
+            response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer error=\"invalid_token\"");
+            ProblemDetailUtil.writeDetailsAsJson(response, responseError);
+            return;
+        }
+
+        ProblemDetail responseError = ProblemDetailUtil.details(
+                "token-not-found",
+                HttpStatus.FORBIDDEN,
+                "Token Not Found",
+                "No token found",
+                HttpStatus.FORBIDDEN.value(),
+                "urn:problem:missing-token",
+                ErrorCode.REQUEST_FORBIDDEN.name(),
+                request.getRequestURI()
+        );
+
+        // Send error as JSON
+        ProblemDetailUtil.writeDetailsAsJson(response, responseError);
+    }
+}
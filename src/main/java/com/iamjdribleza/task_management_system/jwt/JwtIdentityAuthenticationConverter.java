@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.jwt;
+
+import com.iamjdribleza.task_management_system.auth.AuthenticatedIdentity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Component;
+
+/**
+ * Converts a token decoded by the resource server into an authentication.
+ * The decoded token is kept as principal so it's shared through the security context
+ * and never decoded again within the same request.
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+
+@RequiredArgsConstructor
+
+@Component
+public class JwtIdentityAuthenticationConverter implements Converter<Jwt, AbstractAuthenticationToken> {
+
+    private final JwtTokenService jwtTokenService;
+
+    @Override
+    public AbstractAuthenticationToken convert(Jwt jwt) {
+        AuthenticatedIdentity identity;
+
+        try {
+            // Built from claims in stateless mode, from the identity cache otherwise
+            identity = jwtTokenService.resolveIdentity(jwt);
+        } catch (JwtException | UsernameNotFoundException e) {
+            throw new InvalidBearerTokenException(e.getMessage(), e);
+        }
+
+        JwtAuthenticationToken authenticationToken =
+                new JwtAuthenticationToken(jwt, identity.authorities(), identity.email());
+
+        // Keep the resolved identity for services within the same request
+        authenticationToken.setDetails(identity);
+
+        return authenticationToken;
+    }
+}
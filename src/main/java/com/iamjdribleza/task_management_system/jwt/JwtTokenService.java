@@ -7,7 +7,9 @@
 package com.iamjdribleza.task_management_system.jwt;
 
 import com.iamjdribleza.task_management_system.api.ResponseToken;
+import com.iamjdribleza.task_management_system.auth.AuthenticatedIdentity;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.jwt.Jwt;
 
 /**
  * Jwt Token Service
@@ -18,5 +20,5 @@ import org.springframework.security.core.Authentication;
 public interface JwtTokenService {
     ResponseToken generateToken(Authentication auth);
     ResponseToken refreshToken(String refreshToken);
-    String extractUsernameFromToken(String token);
+    AuthenticatedIdentity resolveIdentity(Jwt jwt);
 }
\ No newline at end of file
@@ -7,15 +7,19 @@
 package com.iamjdribleza.task_management_system.jwt;
 
 import com.iamjdribleza.task_management_system.api.ResponseToken;
+import com.iamjdribleza.task_management_system.auth.AuthenticatedIdentity;
 import com.iamjdribleza.task_management_system.auth.AuthenticationDetails;
+import com.iamjdribleza.task_management_system.auth.AuthenticationDetailsServiceImpl;
+import com.iamjdribleza.task_management_system.enums.AccountStatus;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
 import org.springframework.security.oauth2.jwt.*;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.UUID;
 
 /**
  * Class implementation of JwtService
@@ -32,9 +36,23 @@ public class JwtTokenServiceImpl implements JwtTokenService {
 
     private final JwtEncoder jwtEncoder;
     private final JwtDecoder jwtDecoder;
+    private final AuthenticationDetailsServiceImpl authenticationDetailsService;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
 
     public static final long EXPIRES_IN_ONE_HOUR = 3600; // 1 hour
 
+    // Claims carried by the token
+    public static final String EMAIL_CLAIM = "email";
+    public static final String USER_ID_CLAIM = "user_id";
+    public static final String REFERENCE_ID_CLAIM = "uid";
+    public static final String ROLES_CLAIM = "roles";
+    public static final String STATUS_CLAIM = "status";
+    public static final String VERSION_CLAIM = "ver";
+
+    // Builds the principal from token's claims instead of the database when enabled
+    @Value("${app.security.stateless-jwt:false}")
+    private boolean statelessAuthentication;
+
     /**
      * Generates authentication token
      *
@@ -43,15 +61,71 @@ public class JwtTokenServiceImpl implements JwtTokenService {
      */
     @Override
     public ResponseToken generateToken(Authentication auth){
+        AuthenticationDetails authenticationDetails = (AuthenticationDetails) auth.getPrincipal();
+
+        return generateToken(AuthenticatedIdentity.from(authenticationDetails.getUser()));
+    }
+
+    /**
+     * Refreshes token by generating a new one
+     *
+     * @param refreshToken token from cookies
+     * @return ResponseToken new token with expiration
+     */
+    @Override
+    public ResponseToken refreshToken(String refreshToken){
+        Jwt jwt = jwtDecoder.decode(refreshToken);
+        String username = jwt.getClaimAsString(EMAIL_CLAIM);
+
+        AuthenticatedIdentity identity = authenticationDetailsService.loadIdentityByEmail(username);
+
+        // Refresh token must not outlive a password change or deactivation
+        if (isRevoked(jwt, identity))
+            throw new BadJwtException("Token has been revoked");
+
+        return generateToken(identity);
+    }
+
+    /**
+     * Resolves the identity of a token's owner.
+     * In stateless mode the identity is built from token's claims without querying the database.
+     *
+     * @param jwt User's token, already decoded and verified.
+     * @return User's identity.
+     * @throws JwtException if token is revoked.
+     */
+    @Override
+    public AuthenticatedIdentity resolveIdentity(Jwt jwt){
+        AuthenticatedIdentity identity = (statelessAuthentication && hasIdentityClaims(jwt))?
+                identityFromClaims(jwt):
+                authenticationDetailsService.loadIdentityByEmail(jwt.getClaimAsString(EMAIL_CLAIM));
+
+        if (isRevoked(jwt, identity))
+            throw new BadJwtException("Token has been revoked");
+
+        return identity;
+    }
+
+    /**
+     * Generates a token carrying user's identity as claims.
+     *
+     * @param identity User's identity.
+     * @return ResponseToken of access token and expiration.
+     */
+    private ResponseToken generateToken(AuthenticatedIdentity identity){
         Instant now = Instant.now();
-        String email = ((AuthenticationDetails) auth.getPrincipal()).getUsername();
 
         JwtClaimsSet claims = JwtClaimsSet.builder()
                 .issuer("self")
                 .issuedAt(now)
                 .expiresAt(now.plusSeconds(EXPIRES_IN_ONE_HOUR))
-                .subject(auth.getName())
-                .claim("email", email)
+                .subject(identity.email())
+                .claim(EMAIL_CLAIM, identity.email())
+                .claim(USER_ID_CLAIM, identity.userId())
+                .claim(REFERENCE_ID_CLAIM, identity.referenceId().toString())
+                .claim(ROLES_CLAIM, identity.roles())
+                .claim(STATUS_CLAIM, identity.accountStatus().name())
+                .claim(VERSION_CLAIM, identity.tokenVersion())
                 .build();
 
         // Set token header algorithm
@@ -63,29 +137,39 @@ public class JwtTokenServiceImpl implements JwtTokenService {
     }
 
     /**
-     * Refreshes token by generating a new one
+     * Checks token's version against revoked versions and the user's current version.
      *
-     * @param refreshToken token from cookies
-     * @return ResponseToken new token with expiration
+     * @param jwt Decoded token.
+     * @param identity Token owner's identity.
+     * @return true if token is no longer accepted, false otherwise
      */
-    @Override
-    public ResponseToken refreshToken(String refreshToken){
-        Jwt jwt = jwtDecoder.decode(refreshToken);
-        String username = jwt.getClaimAsString("email");
+    private boolean isRevoked(Jwt jwt, AuthenticatedIdentity identity){
+        Number version = jwt.getClaim(VERSION_CLAIM);
+        int tokenVersion = (version == null)? 0: version.intValue();
 
-        return generateToken(new UsernamePasswordAuthenticationToken(username, null));
+        return tokenVersion < identity.tokenVersion()
+                || tokenRevocationRegistry.isRevoked(identity.referenceId(), tokenVersion);
     }
 
-    /**
-     * Extracts username from token.
-     *
-     * @param token User's token to be extracted.
-     * @return Email address as username.
-     */
-    @Override
-    public String extractUsernameFromToken(String token){
-        Jwt jwt = jwtDecoder.decode(token);
+    private boolean hasIdentityClaims(Jwt jwt){
+        return jwt.hasClaim(USER_ID_CLAIM)
+                && jwt.hasClaim(REFERENCE_ID_CLAIM)
+                && jwt.hasClaim(ROLES_CLAIM)
+                && jwt.hasClaim(STATUS_CLAIM)
+                && jwt.hasClaim(VERSION_CLAIM);
+    }
 
-        return jwt.getClaimAsString("email");
+    private AuthenticatedIdentity identityFromClaims(Jwt jwt){
+        Number userId = jwt.getClaim(USER_ID_CLAIM);
+        Number version = jwt.getClaim(VERSION_CLAIM);
+
+        return new AuthenticatedIdentity(
+                userId.longValue(),
+                UUID.fromString(jwt.getClaimAsString(REFERENCE_ID_CLAIM)),
+                jwt.getClaimAsString(EMAIL_CLAIM),
+                jwt.getClaimAsStringList(ROLES_CLAIM),
+                AccountStatus.valueOf(jwt.getClaimAsString(STATUS_CLAIM)),
+                version.intValue()
+        );
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.iamjdribleza.task_management_system.util.ThreadUtil;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the minimum accepted token version of users whose tokens were revoked.
+ * Lets stateless authentication reject old tokens without querying the database.
+ *
+ * Entries only need to outlive the tokens they revoke, so they expire with the token lifetime
+ * and the registry holds only users that changed their password or status recently.
+ *
+ * Revocations are persisted with the account and polled from the database, so every node learns about them.
+ * The node that revoked the tokens rejects them at once, other nodes keep accepting them until their next poll,
+ * that is for up to app.security.token-revocation.poll-millis.
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+
+@Component
+public class TokenRevocationRegistry {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TokenRevocationRegistry.class);
+
+    private static final String POLL_QUERY = """
+            select u.reference_id, a.token_version
+            from authentication a join app_user u on u.auth_id = a.id
+            where a.tokens_revoked_at >= ?
+            """;
+
+    private final Cache<UUID, Integer> minimumVersions = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(JwtTokenServiceImpl.EXPIRES_IN_ONE_HOUR))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long pollMillis;
+    private final Duration overlap;
+    private final ScheduledExecutorService executorService;
+
+    // Revocations stamped before this were seen, only read and written by the polling thread
+    private LocalDateTime polledUpTo = LocalDateTime.now().minusSeconds(JwtTokenServiceImpl.EXPIRES_IN_ONE_HOUR);
+
+    public TokenRevocationRegistry(DataSource dataSource,
+                                   @Value("${app.security.token-revocation.poll-millis:5000}") long pollMillis,
+                                   @Value("${app.security.token-revocation.overlap-millis:60000}") long overlapMillis,
+                                   @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.pollMillis = pollMillis;
+        this.overlap = Duration.ofMillis(overlapMillis);
+        this.executorService = ThreadUtil.newScheduledExecutor("token-revocation", virtualThreads);
+    }
+
+    /**
+     * Loads revocations of tokens that may still be alive, then polls for new ones.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        executorService.scheduleWithFixedDelay(this::poll, 0, pollMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executorService.shutdownNow();
+    }
+
+    /**
+     * Revokes every token of a user issued before the given version.
+     *
+     * @param referenceId User's reference id.
+     * @param version User's new token version.
+     */
+    public void revokeBefore(UUID referenceId, int version) {
+        minimumVersions.asMap().merge(referenceId, version, Math::max);
+    }
+
+    /**
+     * Checks if a token version has been revoked.
+     *
+     * @param referenceId User's reference id.
+     * @param version Token's version.
+     * @return true if the token was revoked, false otherwise
+     */
+    public boolean isRevoked(UUID referenceId, int version) {
+        Integer minimumVersion = minimumVersions.getIfPresent(referenceId);
+
+        return minimumVersion != null && version < minimumVersion;
+    }
+
+    /**
+     * Reads revocations stamped since the last poll.
+     * Reads overlap, so revocations committed late or stamped by a node whose clock lags are still seen.
+     */
+    private void poll() {
+        LocalDateTime started = LocalDateTime.now();
+
+        try {
+            jdbcTemplate.query(POLL_QUERY, resultSet -> {
+                revokeBefore(resultSet.getObject("reference_id", UUID.class), resultSet.getInt("token_version"));
+            }, Timestamp.valueOf(polledUpTo.minus(overlap)));
+
+            polledUpTo = started;
+        } catch (DataAccessException e) {
+            // Read again from the same point on the next poll
+            LOGGER.warn("Polling token revocations failed", e);
+        }
+    }
+}
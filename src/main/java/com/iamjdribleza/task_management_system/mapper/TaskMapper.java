@@ -7,13 +7,14 @@
 package com.iamjdribleza.task_management_system.mapper;
 
 import com.iamjdribleza.task_management_system.task.TaskDto;
+import com.iamjdribleza.task_management_system.task.TaskOccurrence;
 import com.iamjdribleza.task_management_system.task.Task;
+import com.iamjdribleza.task_management_system.task.TaskView;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 
@@ -35,8 +36,40 @@ public interface TaskMapper {
      */
     @Mapping(target = "timeAgo", expression = "java(formatTimeAgo(task.getDateCreated()))")
     @Mapping(target = "eventDate", expression = "java(formatDate(task.getEventDate()))")
+    @Mapping(target = "occurrenceDate", ignore = true)
     TaskDto toDto(Task task);
 
+    /**
+     * Maps a task projection to dto
+     *
+     * @param taskView Task's projection from database to be mapped
+     * @return Task's details
+     */
+    @Mapping(target = "timeAgo", expression = "java(formatTimeAgo(taskView.dateCreated()))")
+    @Mapping(target = "eventDate", expression = "java(formatDate(taskView.eventDate()))")
+    @Mapping(target = "occurrenceDate", ignore = true)
+    TaskDto toDto(TaskView taskView);
+
+    /**
+     * Maps an occurrence of a recurring task to dto
+     *
+     * @param occurrence Occurrence expanded from a recurring task
+     * @return Occurrence's details
+     */
+    default TaskDto toDto(TaskOccurrence occurrence) {
+        TaskDto taskDto = toDto(occurrence.task());
+
+        return new TaskDto(
+                taskDto.referenceId(),
+                taskDto.description(),
+                taskDto.eventDate(),
+                taskDto.timeAgo(),
+                taskDto.priority(),
+                taskDto.recurrence(),
+                occurrence.occurrenceDate()
+        );
+    }
+
     /**
      * Maps dto to task
      *
@@ -89,8 +122,7 @@ public interface TaskMapper {
      * @return Date task's will occur
      */
     default LocalDate formatDate(LocalDate due){
-        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("MMM dd");
-
-        return LocalDate.parse(dateTimeFormatter.format(due));
+        // A LocalDate can't carry a display pattern, it's serialized as ISO date and formatted on client
+        return due;
     }
 }
@@ -6,8 +6,10 @@
 
 package com.iamjdribleza.task_management_system.mapper;
 
+import com.iamjdribleza.task_management_system.auth.AuthenticationEmailDto;
 import com.iamjdribleza.task_management_system.user.User;
 import com.iamjdribleza.task_management_system.user.UserDto;
+import com.iamjdribleza.task_management_system.user.UserView;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -22,4 +24,14 @@ public interface UserMapper {
     User toUser(UserDto userDto);
 
     List<UserDto> toDtoList(List<User> users);
+
+    default UserDto toUserDto(UserView userView, List<String> roles){
+        return new UserDto(
+                userView.referenceId(),
+                userView.firstName(),
+                userView.lastName(),
+                roles,
+                new AuthenticationEmailDto(userView.email())
+        );
+    }
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Detects virtual threads pinned to their carrier, from the JVM's own flight recorder events.
+ *
+ * A virtual thread blocking inside a synchronized block or a native frame can't unmount,
+ * so its carrier thread is lost to every other virtual thread until it unblocks.
+ * Every pinning longer than the threshold is counted, and each place pinning happens is logged once with its stack.
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+
+@Component
+public class PinnedThreadMonitor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PinnedThreadMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    // Frames logged for each place pinning happens
+    private static final int LOGGED_FRAMES = 24;
+
+    // Pinnings are still counted once this many places were logged
+    private static final int MAXIMUM_LOGGED_PLACES = 1000;
+
+    private final boolean enabled;
+    private final Duration threshold;
+    private final Counter pinnedThreads;
+
+    // Stacks of pinnings already logged, the top frames are the same parking frames for every place
+    private final Set<String> loggedPlaces = ConcurrentHashMap.newKeySet();
+
+    private RecordingStream recordingStream;
+
+    public PinnedThreadMonitor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                               @Value("${app.virtual-threads.pinned-threshold-millis:20}") long thresholdMillis,
+                               MeterRegistry meterRegistry) {
+
+        this.enabled = virtualThreads;
+        this.threshold = Duration.ofMillis(thresholdMillis);
+
+        this.pinnedThreads = Counter.builder("jvm.threads.virtual.pinned")
+                .description("Virtual threads pinned to their carrier longer than the threshold")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts streaming pinning events, only when requests run on virtual threads.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled)
+            return;
+
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null)
+            recordingStream.close();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedThreads.increment();
+
+        if (event.getStackTrace() == null || event.getStackTrace().getFrames().isEmpty())
+            return;
+
+        String stack = event.getStackTrace().getFrames().stream()
+                .limit(LOGGED_FRAMES)
+                .map(PinnedThreadMonitor::toString)
+                .collect(Collectors.joining("\n\tat "));
+
+        if (loggedPlaces.size() < MAXIMUM_LOGGED_PLACES && loggedPlaces.add(stack))
+            LOGGER.warn("Virtual thread pinned for {} ms\n\tat {}", event.getDuration().toMillis(), stack);
+    }
+
+    private static String toString(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.purge;
+
+import com.iamjdribleza.task_management_system.task.TaskRepository;
+import com.iamjdribleza.task_management_system.user.UserRepository;
+import com.iamjdribleza.task_management_system.util.ThreadUtil;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Removes deleted tasks and users from the database in the background.
+ * Rows are removed in chunks, each claimed and deleted by a single statement in its own short transaction.
+ * Chunks are claimed with SKIP LOCKED, so several nodes can purge at once without waiting on each other.
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+
+@Component
+public class PurgeJob {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PurgeJob.class);
+
+    private static final String PURGE_DELETED_TASKS = """
+            delete from task
+            where id in (
+                select id from task
+                where deleted_at is not null
+                limit ?
+                for update skip locked
+            )
+            """;
+
+    // Tasks of deleted users aren't marked one by one, they're found through their user
+    private static final String PURGE_TASKS_OF_DELETED_USERS = """
+            delete from task
+            where id in (
+                select id from task
+                where user_id in (select id from app_user where deleted_at is not null)
+                limit ?
+                for update skip locked
+            )
+            """;
+
+    // Users are purged once their tasks are gone
+    private static final String CLAIM_DELETED_USERS = """
+            select id from app_user u
+            where u.deleted_at is not null
+              and not exists (select 1 from task t where t.user_id = u.id)
+            limit ?
+            for update skip locked
+            """;
+
+    private static final String TASK_BACKLOG_QUERY = """
+            select (select count(*) from task where deleted_at is not null)
+                 + (select count(*) from task where user_id in (select id from app_user where deleted_at is not null))
+            """;
+
+    private static final String USER_BACKLOG_QUERY = "select count(*) from app_user where deleted_at is not null";
+
+    private final UserRepository userRepository;
+    private final TaskRepository taskRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final long intervalSeconds;
+    private final int chunkSize;
+    private final ScheduledExecutorService executorService;
+
+    // Rows waiting to be purged, as of the end of the last run
+    private final AtomicLong taskBacklog = new AtomicLong();
+    private final AtomicLong userBacklog = new AtomicLong();
+
+    public PurgeJob(UserRepository userRepository,
+                    TaskRepository taskRepository,
+                    DataSource dataSource,
+                    PlatformTransactionManager transactionManager,
+                    MeterRegistry meterRegistry,
+                    @Value("${app.purge.enabled:true}") boolean enabled,
+                    @Value("${app.purge.interval-seconds:60}") long intervalSeconds,
+                    @Value("${app.purge.chunk-size:1000}") int chunkSize,
+                    @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+
+        this.userRepository = userRepository;
+        this.taskRepository = taskRepository;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.intervalSeconds = intervalSeconds;
+        this.chunkSize = chunkSize;
+
+        this.executorService = ThreadUtil.newScheduledExecutor("purge-job", virtualThreads);
+
+        Gauge.builder("purge.backlog", taskBacklog, AtomicLong::get)
+                .description("Deleted rows waiting to be purged")
+                .tag("entity", "task")
+                .register(meterRegistry);
+
+        Gauge.builder("purge.backlog", userBacklog, AtomicLong::get)
+                .description("Deleted rows waiting to be purged")
+                .tag("entity", "user")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts purging periodically, a run starts only after the previous one finished.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled)
+            return;
+
+        executorService.scheduleWithFixedDelay(this::purge, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executorService.shutdownNow();
+    }
+
+    /**
+     * Purges every deleted row that isn't claimed by another node, then refreshes the backlog.
+     */
+    public void purge() {
+        long started = System.nanoTime();
+
+        try {
+            long tasks = purgeTasks(PURGE_DELETED_TASKS) + purgeTasks(PURGE_TASKS_OF_DELETED_USERS);
+            long users = purgeUsers();
+
+            taskBacklog.set(Objects.requireNonNullElse(jdbcTemplate.queryForObject(TASK_BACKLOG_QUERY, Long.class), 0L));
+            userBacklog.set(Objects.requireNonNullElse(jdbcTemplate.queryForObject(USER_BACKLOG_QUERY, Long.class), 0L));
+
+            if (tasks > 0 || users > 0)
+                LOGGER.info("Purged {} tasks and {} users in {} ms", tasks, users, (System.nanoTime() - started) / 1_000_000);
+        } catch (DataAccessException e) {
+            // Rows left are purged by the next run
+            LOGGER.error("Purge stopped", e);
+        }
+    }
+
+    private long purgeTasks(String statement) {
+        long purged = 0;
+        int deleted;
+
+        // A full chunk means more rows may be left
+        do {
+            deleted = Objects.requireNonNull(transactionTemplate.execute(status -> jdbcTemplate.update(statement, chunkSize)));
+            purged += deleted;
+        } while (deleted == chunkSize);
+
+        return purged;
+    }
+
+    private long purgeUsers() {
+        long purged = 0;
+        int deleted;
+
+        // Removed through JPA so their authentication and roles go with them, archived tasks are removed first
+        do {
+            deleted = Objects.requireNonNull(transactionTemplate.execute(status -> {
+                List<Long> userIds = jdbcTemplate.queryForList(CLAIM_DELETED_USERS, Long.class, chunkSize);
+                taskRepository.deleteArchivedByUserIdIn(userIds);
+                userRepository.deleteAllById(userIds);
+
+                return userIds.size();
+            }));
+            purged += deleted;
+        } while (deleted == chunkSize);
+
+        return purged;
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.reminder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Logs fired reminders, used for local testing.
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+
+@Component
+@ConditionalOnProperty(name = "app.reminders.sink", havingValue = "log", matchIfMissing = true)
+public class LoggingReminderSink implements ReminderSink {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoggingReminderSink.class);
+
+    @Override
+    public void deliver(Reminder reminder) {
+        LOGGER.info("Reminder for task {} of user {} on {}", reminder.referenceId(), reminder.userId(), reminder.eventDate());
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.reminder;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Reminder of a task whose event date has arrived.
+ * Kept small since every upcoming task has one in memory.
+ *
+ * @param referenceId task's reference id
+ * @param userId owner's id
+ * @param eventDate task's date occurs
+ * @param dueAt instant the reminder is due
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+public record Reminder(
+        UUID referenceId,
+        long userId,
+        LocalDate eventDate,
+        Instant dueAt
+) {}
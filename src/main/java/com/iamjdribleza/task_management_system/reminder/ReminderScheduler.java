@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.reminder;
+
+import com.iamjdribleza.task_management_system.enums.TaskEventType;
+import com.iamjdribleza.task_management_system.task.TaskChangedEvent;
+import com.iamjdribleza.task_management_system.task.TaskSlot;
+import com.iamjdribleza.task_management_system.task.TasksImportedEvent;
+import com.iamjdribleza.task_management_system.util.ThreadUtil;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps a reminder in memory for every upcoming task and fires it when the task's event date arrives.
+ * Reminders are held in a hierarchical timing wheel, rescheduled and cancelled with committed task writes,
+ * and loaded from the database on startup.
+ *
+ * Every node holds every reminder, so a due reminder is claimed through the database before it's delivered.
+ * The claim only succeeds once per task and event date, and only if the task still falls on that date
+ * and isn't deleted, so reminders of tasks moved or deleted through another node aren't delivered.
+ * Reminders are loaded again periodically, which schedules tasks moved through another node.
+ * A claimed reminder whose delivery fails isn't retried.
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+
+@Component
+public class ReminderScheduler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReminderScheduler.class);
+
+    private static final String LOAD_QUERY = """
+            select reference_id, user_id, event_date
+            from task
+            where event_date >= ? and deleted_at is null
+              and (reminded_on is null or reminded_on <> event_date)
+              and user_id not in (select id from app_user where deleted_at is not null)
+            """;
+
+    private static final String CLAIM_STATEMENT = """
+            update task set reminded_on = event_date
+            where reference_id = ? and event_date = ? and deleted_at is null
+              and (reminded_on is null or reminded_on <> event_date)
+              and user_id not in (select id from app_user where deleted_at is not null)
+            """;
+
+    // Due reminders claimed by a single batch
+    private static final int CLAIM_BATCH_SIZE = 500;
+
+    private final ReminderSink reminderSink;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final long tickMillis;
+    private final long reloadMinutes;
+    private final LocalTime remindAt;
+    private final ZoneId zone;
+    private final TimingWheel<UUID, Reminder> timingWheel;
+
+    // Not a monitor, a virtual thread waiting on a monitor stays pinned to its carrier
+    private final Lock timingWheelLock = new ReentrantLock();
+    private final ScheduledExecutorService executorService;
+
+    // Reference ids written while reminders are loaded, null when no load is running
+    private volatile Set<UUID> changedDuringLoad;
+
+    public ReminderScheduler(ReminderSink reminderSink,
+                             DataSource dataSource,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${app.reminders.enabled:true}") boolean enabled,
+                             @Value("${app.reminders.tick-millis:1000}") long tickMillis,
+                             @Value("${app.reminders.remind-at:09:00}") LocalTime remindAt,
+                             @Value("${app.reminders.zone:#{T(java.time.ZoneId).systemDefault().id}}") ZoneId zone,
+                             @Value("${app.reminders.fetch-size:1000}") int fetchSize,
+                             @Value("${app.reminders.reload-minutes:60}") long reloadMinutes,
+                             @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+
+        this.reminderSink = reminderSink;
+        this.enabled = enabled;
+        this.tickMillis = tickMillis;
+        this.reloadMinutes = reloadMinutes;
+        this.remindAt = remindAt;
+        this.zone = zone;
+        this.timingWheel = new TimingWheel<>(tick(Instant.now()));
+
+        // Rows are read from a cursor and kept as reminders, tasks are never hydrated
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+
+        this.executorService = ThreadUtil.newScheduledExecutor("reminder-scheduler", virtualThreads);
+    }
+
+    /**
+     * Loads reminders of upcoming tasks and starts firing them, then loads them again periodically.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled)
+            return;
+
+        load();
+        executorService.scheduleAtFixedRate(this::fireDueReminders, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        executorService.scheduleWithFixedDelay(this::load, reloadMinutes, reloadMinutes, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executorService.shutdownNow();
+    }
+
+    /**
+     * Schedules, reschedules or cancels a task's reminder once its write is committed.
+     *
+     * @param event Committed task change.
+     */
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (!enabled)
+            return;
+
+        Set<UUID> changed = changedDuringLoad;
+        if (changed != null)
+            changed.add(event.referenceId());
+
+        TaskSlot current = event.current();
+
+        timingWheelLock.lock();
+        try {
+            // Updates without a slot kept the task's date
+            if (current != null)
+                schedule(event.referenceId(), event.userId(), current.eventDate());
+            else if (event.type() == TaskEventType.DELETED || event.type() == TaskEventType.ARCHIVED)
+                timingWheel.cancel(event.referenceId());
+        } finally {
+            timingWheelLock.unlock();
+        }
+    }
+
+    /**
+     * Schedules reminders of a committed chunk of imported tasks, holding the lock once for the chunk.
+     *
+     * @param event Committed import chunk.
+     */
+    @TransactionalEventListener
+    public void onTasksImported(TasksImportedEvent event) {
+        if (!enabled)
+            return;
+
+        Set<UUID> changed = changedDuringLoad;
+        if (changed != null)
+            event.tasks().forEach(task -> changed.add(task.referenceId()));
+
+        timingWheelLock.lock();
+        try {
+            event.tasks().forEach(task -> schedule(task.referenceId(), event.userId(), task.eventDate()));
+        } finally {
+            timingWheelLock.unlock();
+        }
+    }
+
+    /**
+     * Number of reminders waiting to be fired.
+     *
+     * @return Pending reminders.
+     */
+    public int pendingReminders() {
+        timingWheelLock.lock();
+        try {
+            return timingWheel.size();
+        } finally {
+            timingWheelLock.unlock();
+        }
+    }
+
+    private void load() {
+        Set<UUID> changed = ConcurrentHashMap.newKeySet();
+        changedDuringLoad = changed;
+
+        long started = System.nanoTime();
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(LOAD_QUERY, resultSet -> {
+                UUID referenceId = resultSet.getObject("reference_id", UUID.class);
+                long userId = resultSet.getLong("user_id");
+                LocalDate eventDate = resultSet.getObject("event_date", LocalDate.class);
+
+                timingWheelLock.lock();
+                try {
+                    // A committed write already scheduled or cancelled the task, a reminder already due is left as it is
+                    if (!changed.contains(referenceId) && dueAt(eventDate).isAfter(Instant.now()))
+                        schedule(referenceId, userId, eventDate);
+                } finally {
+                    timingWheelLock.unlock();
+                }
+            }, LocalDate.now(zone)));
+        } catch (DataAccessException e) {
+            // Reminders of tasks written from now on are still fired
+            LOGGER.error("Loading reminders stopped", e);
+        } finally {
+            changedDuringLoad = null;
+        }
+
+        LOGGER.info("Loaded {} reminders in {} ms", pendingReminders(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Schedules a task's reminder, or cancels it if the reminder's time has passed.
+     */
+    private void schedule(UUID referenceId, long userId, LocalDate eventDate) {
+        Instant dueAt = dueAt(eventDate);
+
+        if (dueAt.isBefore(Instant.now())) {
+            timingWheel.cancel(referenceId);
+            return;
+        }
+
+        timingWheel.schedule(referenceId, new Reminder(referenceId, userId, eventDate, dueAt), tick(dueAt));
+    }
+
+    private void fireDueReminders() {
+        List<Reminder> dueReminders;
+
+        timingWheelLock.lock();
+        try {
+            dueReminders = timingWheel.advanceTo(tick(Instant.now()));
+        } finally {
+            timingWheelLock.unlock();
+        }
+
+        // Claimed and delivered outside the lock so writes aren't blocked by the database or the sink
+        for (int start = 0; start < dueReminders.size(); start += CLAIM_BATCH_SIZE) {
+            List<Reminder> batch = dueReminders.subList(start, Math.min(start + CLAIM_BATCH_SIZE, dueReminders.size()));
+
+            for (Reminder reminder : claim(batch)) {
+                try {
+                    reminderSink.deliver(reminder);
+                } catch (RuntimeException e) {
+                    LOGGER.error("Reminder for task {} couldn't be delivered", reminder.referenceId(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Claims due reminders, each in its own statement of a single batch.
+     *
+     * @return Reminders claimed by this node, the others were claimed by another node or their task changed.
+     */
+    private List<Reminder> claim(List<Reminder> reminders) {
+        int[] claimed;
+
+        try {
+            claimed = jdbcTemplate.batchUpdate(CLAIM_STATEMENT, reminders.stream()
+                    .map(reminder -> new Object[] {reminder.referenceId(), reminder.eventDate()})
+                    .toList());
+        } catch (DataAccessException e) {
+            // Not delivered, the task may have been claimed by another node meanwhile
+            LOGGER.error("Claiming {} reminders failed", reminders.size(), e);
+            return List.of();
+        }
+
+        List<Reminder> claimedReminders = new ArrayList<>();
+
+        for (int i = 0; i < reminders.size(); i++) {
+            if (claimed[i] > 0)
+                claimedReminders.add(reminders.get(i));
+        }
+
+        return claimedReminders;
+    }
+
+    private Instant dueAt(LocalDate eventDate) {
+        return eventDate.atTime(remindAt).atZone(zone).toInstant();
+    }
+
+    private long tick(Instant instant) {
+        return Math.ceilDiv(instant.toEpochMilli(), tickMillis);
+    }
+}
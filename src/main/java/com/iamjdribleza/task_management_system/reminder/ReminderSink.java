@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.reminder;
+
+/**
+ * Delivers fired reminders, e.g. by email or push notification.
+ * Called from the scheduler's thread, so slow deliveries should be handed off.
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+public interface ReminderSink {
+    void deliver(Reminder reminder);
+}
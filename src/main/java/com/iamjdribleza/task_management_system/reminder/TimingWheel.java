@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.reminder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hierarchical timing wheel keyed by an id.
+ * Each level has 64 slots, a slot of a level spans a whole rotation of the level below it.
+ * Entries are kept in intrusive doubly linked lists, so schedule and cancel are O(1)
+ * and an entry is only moved when its slot of a higher level is reached.
+ * Not thread-safe, callers must synchronize.
+ *
+ * @param <K> Entry's id type.
+ * @param <V> Entry's value type.
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+class TimingWheel<K, V> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    // 64^5 ticks, over 34 years with one second ticks
+    private static final int LEVELS = 5;
+
+    private final Node<K, V>[][] slots;
+    private final Map<K, Node<K, V>> nodes = new HashMap<>();
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    TimingWheel(long currentTick) {
+        this.currentTick = currentTick;
+        this.slots = (Node<K, V>[][]) new Node<?, ?>[LEVELS][SLOTS];
+
+        // Every slot is a circular list with a sentinel head
+        for (Node<K, V>[] level : slots) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                Node<K, V> head = new Node<>(null, null, 0);
+                head.previous = head;
+                head.next = head;
+                level[slot] = head;
+            }
+        }
+    }
+
+    /**
+     * Schedules an entry, replacing its previous schedule.
+     * Entries due now or in the past are expired on the next tick.
+     *
+     * @param key Entry's id.
+     * @param value Entry's value.
+     * @param deadlineTick Tick the entry expires on.
+     */
+    void schedule(K key, V value, long deadlineTick) {
+        cancel(key);
+
+        Node<K, V> node = new Node<>(key, value, Math.max(deadlineTick, currentTick + 1));
+        nodes.put(key, node);
+        insert(node);
+    }
+
+    /**
+     * Cancels an entry.
+     *
+     * @param key Entry's id.
+     * @return true if the entry was scheduled.
+     */
+    boolean cancel(K key) {
+        Node<K, V> node = nodes.remove(key);
+
+        if (node == null)
+            return false;
+
+        node.unlink();
+        return true;
+    }
+
+    /**
+     * Advances the wheel up to a tick.
+     *
+     * @param tick Tick to advance to, ticks already passed are ignored.
+     * @return Values of the expired entries, in expiry order.
+     */
+    List<V> advanceTo(long tick) {
+        List<V> expired = new ArrayList<>();
+
+        while (currentTick < tick) {
+            currentTick++;
+
+            // Entries of a higher level slot move down once the slot's span starts
+            for (int level = 1; level < LEVELS && (currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0; level++)
+                cascade(slots[level][slotOf(currentTick, level)]);
+
+            Node<K, V> head = slots[0][slotOf(currentTick, 0)];
+
+            while (head.next != head) {
+                Node<K, V> node = head.next;
+                node.unlink();
+                nodes.remove(node.key);
+                expired.add(node.value);
+            }
+        }
+
+        return expired;
+    }
+
+    int size() {
+        return nodes.size();
+    }
+
+    long currentTick() {
+        return currentTick;
+    }
+
+    private void cascade(Node<K, V> head) {
+        while (head.next != head) {
+            Node<K, V> node = head.next;
+            node.unlink();
+            insert(node);
+        }
+    }
+
+    /**
+     * Puts a node on the lowest level whose rotation reaches its deadline.
+     */
+    private void insert(Node<K, V> node) {
+        int level = 0;
+
+        while (level < LEVELS - 1 && (node.deadlineTick >>> (SLOT_BITS * level)) - (currentTick >>> (SLOT_BITS * level)) >= SLOTS)
+            level++;
+
+        // Deadlines beyond the top level wait on its furthest slot and are placed again when it's reached
+        long span = Math.min(node.deadlineTick >>> (SLOT_BITS * level), (currentTick >>> (SLOT_BITS * level)) + SLOTS - 1);
+
+        node.linkBefore(slots[level][(int) (span & SLOT_MASK)]);
+    }
+
+    private static int slotOf(long tick, int level) {
+        return (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+    }
+
+    private static final class Node<K, V> {
+        private final K key;
+        private final V value;
+        private final long deadlineTick;
+        private Node<K, V> previous;
+        private Node<K, V> next;
+
+        private Node(K key, V value, long deadlineTick) {
+            this.key = key;
+            this.value = value;
+            this.deadlineTick = deadlineTick;
+        }
+
+        private void linkBefore(Node<K, V> head) {
+            previous = head.previous;
+            next = head;
+            head.previous.next = this;
+            head.previous = this;
+        }
+
+        private void unlink() {
+            previous.next = next;
+            next.previous = previous;
+            previous = null;
+            next = null;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Stores many task operations to be applied in a single request.
+ *
+ * @param create tasks to be created, each one validated on its own
+ * @param update tasks to be updated, identified by their reference id
+ * @param delete reference ids of tasks to be deleted
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+public record BulkTaskRequestDto(
+        @Size(max = BulkTaskRequestDto.MAX_ITEMS, message = "Too many tasks to create")
+        List<TaskDto> create,
+
+        @Size(max = BulkTaskRequestDto.MAX_ITEMS, message = "Too many tasks to update")
+        List<TaskDto> update,
+
+        @Size(max = BulkTaskRequestDto.MAX_ITEMS, message = "Too many tasks to delete")
+        List<UUID> delete
+) {
+    public static final int MAX_ITEMS = 500;
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import com.iamjdribleza.task_management_system.enums.BulkItemStatus;
+import com.iamjdribleza.task_management_system.enums.BulkOperation;
+
+import java.util.UUID;
+
+/**
+ * Stores the outcome of a single item on a bulk request.
+ *
+ * @param operation operation applied to the item
+ * @param referenceId task's reference id, the generated one for created tasks
+ * @param status item's outcome
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+public record BulkTaskResultDto(
+        BulkOperation operation,
+        UUID referenceId,
+        BulkItemStatus status
+) {}
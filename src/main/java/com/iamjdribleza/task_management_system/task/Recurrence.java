@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import com.iamjdribleza.task_management_system.enums.RecurrenceFrequency;
+import com.iamjdribleza.task_management_system.exceptions.InvalidArgumentException;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Rule a recurring task repeats by, starting on the task's event date.
+ * Occurrences are computed for a date range on demand and never stored.
+ * Monthly occurrences on days a month doesn't have fall on the month's last day.
+ *
+ * @param frequency unit the task repeats by
+ * @param interval number of units between occurrences, 1 if absent
+ * @param until last date an occurrence can fall on, null if the task repeats forever
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+@Embeddable
+public record Recurrence(
+        @NotNull(message = "Blank recurrence frequency")
+        @Enumerated(EnumType.STRING)
+        @Column(name = "recurrence_frequency", length = 16)
+        RecurrenceFrequency frequency,
+
+        @Min(value = 1, message = "Recurrence interval must be at least 1")
+        @Column(name = "recurrence_interval")
+        Integer interval,
+
+        @Column(name = "recurrence_until")
+        LocalDate until
+) {
+
+    private static final DateTimeFormatter RULE_DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    public Recurrence {
+        if (interval == null)
+            interval = 1;
+    }
+
+    /**
+     * Creates a recurrence from its columns.
+     *
+     * @param frequency Frequency column's value.
+     * @param interval Interval column's value.
+     * @param until Until column's value.
+     * @return Recurrence, null if the task occurs once.
+     */
+    public static Recurrence of(String frequency, Integer interval, LocalDate until) {
+        return (frequency == null)? null: new Recurrence(RecurrenceFrequency.valueOf(frequency), interval, until);
+    }
+
+    /**
+     * Occurrences within a date range, in order, computed as they are consumed.
+     * Jumps straight to the first occurrence of the range, so the cost doesn't grow with the series' age.
+     *
+     * @param start Task's event date, the first occurrence.
+     * @param from First day of the range.
+     * @param to Last day of the range.
+     * @return Dates of the occurrences.
+     */
+    public Stream<LocalDate> occurrences(LocalDate start, LocalDate from, LocalDate to) {
+        LocalDate last = (until != null && until.isBefore(to))? until: to;
+
+        if (start.isAfter(last))
+            return Stream.empty();
+
+        return LongStream.iterate(firstIndexOnOrAfter(start, from), index -> index + 1)
+                .mapToObj(index -> occurrence(start, index))
+                .takeWhile(occurrence -> !occurrence.isAfter(last));
+    }
+
+    /**
+     * Checks if a date is one of the series' occurrences.
+     *
+     * @param start Task's event date, the first occurrence.
+     * @param date Date to be checked.
+     * @return true if an occurrence falls on the date.
+     */
+    public boolean occursOn(LocalDate start, LocalDate date) {
+        if (date.isBefore(start) || (until != null && date.isAfter(until)))
+            return false;
+
+        return occurrence(start, firstIndexOnOrAfter(start, date)).equals(date);
+    }
+
+    /**
+     * Formats the rule like an iCalendar RRULE, e.g. FREQ=WEEKLY;INTERVAL=2;UNTIL=20251231.
+     *
+     * @return Rule's text.
+     */
+    public String toRule() {
+        String rule = "FREQ=" + frequency + ";INTERVAL=" + interval;
+
+        return (until == null)? rule: rule + ";UNTIL=" + until.format(RULE_DATE_FORMAT);
+    }
+
+    /**
+     * Parses a rule formatted by toRule.
+     *
+     * @param rule Rule's text.
+     * @return Recurrence, null if the text is blank.
+     * @throws InvalidArgumentException if the text isn't a valid rule.
+     */
+    public static Recurrence parse(String rule) {
+        if (rule == null || rule.isBlank())
+            return null;
+
+        RecurrenceFrequency frequency = null;
+        int interval = 1;
+        LocalDate until = null;
+
+        try {
+            for (String part : rule.trim().split(";")) {
+                String[] pair = part.split("=", 2);
+
+                switch (pair[0].trim().toUpperCase()) {
+                    case "FREQ" -> frequency = RecurrenceFrequency.valueOf(pair[1].trim().toUpperCase());
+                    case "INTERVAL" -> interval = Integer.parseInt(pair[1].trim());
+                    case "UNTIL" -> until = LocalDate.parse(pair[1].trim(), RULE_DATE_FORMAT);
+                    default -> throw new IllegalArgumentException(pair[0]);
+                }
+            }
+        } catch (RuntimeException e) {
+            throw new InvalidArgumentException("Invalid recurrence rule: " + rule);
+        }
+
+        if (frequency == null || interval < 1)
+            throw new InvalidArgumentException("Invalid recurrence rule: " + rule);
+
+        return new Recurrence(frequency, interval, until);
+    }
+
+    private LocalDate occurrence(LocalDate start, long index) {
+        long units = index * interval;
+
+        return switch (frequency) {
+            case DAILY -> start.plusDays(units);
+            case WEEKLY -> start.plusWeeks(units);
+            case MONTHLY -> start.plusMonths(units);
+        };
+    }
+
+    /**
+     * Index of the first occurrence on or after a date, computed without walking the series.
+     */
+    private long firstIndexOnOrAfter(LocalDate start, LocalDate date) {
+        if (!date.isAfter(start))
+            return 0;
+
+        long units = switch (frequency) {
+            case DAILY -> ChronoUnit.DAYS.between(start, date);
+            case WEEKLY -> ChronoUnit.WEEKS.between(start, date);
+            case MONTHLY -> ChronoUnit.MONTHS.between(start.withDayOfMonth(1), date.withDayOfMonth(1));
+        };
+
+        long index = units / interval;
+
+        // Unit counts round down, so the occurrence found may still be before the date
+        while (occurrence(start, index).isBefore(date))
+            index++;
+
+        return index;
+    }
+}
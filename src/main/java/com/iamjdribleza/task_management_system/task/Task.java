@@ -15,6 +15,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDate;
@@ -34,13 +36,22 @@ import java.util.UUID;
 @Getter
 
 @Entity
+@DynamicUpdate
+@SQLRestriction("deleted_at is null") // Deleted tasks are left out of every query until they're purged
+@Table(indexes = {
+        // Matches keyset pagination order, serves both all tasks and today's tasks of a user
+        @Index(name = "idx_task_user_event_date_priority_id", columnList = "user_id, event_date DESC, priority DESC, id DESC"),
+
+        // Finds deleted tasks to be purged
+        @Index(name = "idx_task_deleted_at", columnList = "deleted_at")
+})
 public class Task {
 
     @Id
     @SequenceGenerator(
             name = "task_seq_gen",
             sequenceName = "task_seq",
-            allocationSize = 1
+            allocationSize = 50
     )
     @GeneratedValue(
             strategy = GenerationType.SEQUENCE,
@@ -82,11 +93,32 @@ public class Task {
     @Column(nullable = false)
     private Priority priority;
 
+    // Null for tasks that occur once
+    @Embedded
+    private Recurrence recurrence;
+
     @Column(updatable = false)
     @CreationTimestamp
     private LocalDateTime dateCreated;
 
-    @Column(updatable = false)
     @UpdateTimestamp
     private LocalDateTime dateUpdated;
+
+    // Checked and incremented by every update, exposed to the client as the task's entity tag
+    @Version
+    @Column(
+            nullable = false,
+            columnDefinition = "bigint default 0"
+    )
+    private long version;
+
+    // Set when the task is deleted, the row is removed later by the purge job
+    private LocalDateTime deletedAt;
+
+    // Event date the task's reminder was delivered for, only written by the node that claimed the reminder
+    @Column(
+            insertable = false,
+            updatable = false
+    )
+    private LocalDate remindedOn;
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Read path of archived tasks, mixed into TaskRepository.
+ * Segments are decompressed on every read, so it's slower than the task table and meant for history.
+ * Every method behaves as if the archive is empty while it isn't available.
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+public interface TaskArchiveRepository {
+
+    /**
+     * Archived tasks of a user within a date range, ordered by event date.
+     *
+     * @param userId Owner's id.
+     * @param from First day of the range.
+     * @param to Last day of the range.
+     * @return Archived tasks.
+     */
+    List<TaskView> findArchivedViewsByUserIdAndDateRange(long userId, LocalDate from, LocalDate to);
+
+    /**
+     * First days of the months that have archived tasks of a user within a date range, in order.
+     *
+     * @param userId Owner's id.
+     * @param from First day of the range.
+     * @param to Last day of the range.
+     * @return Months with archived tasks.
+     */
+    List<LocalDate> findArchivedMonthsByUserIdAndDateRange(long userId, LocalDate from, LocalDate to);
+
+    /**
+     * Calendar counters of a user's archived tasks, one row per day and priority.
+     *
+     * @param userId Owner's id.
+     * @return Day counts, read without decompressing any segment.
+     */
+    List<TaskDayCount> countArchivedByUserIdGroupByEventDateAndPriority(long userId);
+
+    /**
+     * Removes everything archived of the users.
+     *
+     * @param userIds Owners' ids.
+     * @return Number of removed segments.
+     */
+    int deleteArchivedByUserIdIn(Collection<Long> userIds);
+}
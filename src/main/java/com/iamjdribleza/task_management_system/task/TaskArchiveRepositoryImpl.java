@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iamjdribleza.task_management_system.enums.Priority;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * JDBC implementation of the archive's read path, picked up by Spring Data as a TaskRepository fragment.
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+class TaskArchiveRepositoryImpl implements TaskArchiveRepository {
+
+    // Segments are keyed by month, so the range is widened to the first day of its month
+    private static final String SEGMENTS_QUERY = """
+            select payload from task_archive
+            where user_id = ? and segment_month between ? and ?
+            """;
+
+    private static final String MONTHS_QUERY = """
+            select distinct segment_month from task_archive
+            where user_id = ? and segment_month between ? and ?
+            order by segment_month
+            """;
+
+    private static final String DAY_COUNTS_QUERY = """
+            select event_date, priority, task_count from task_archive_day_count
+            where user_id = ?
+            """;
+
+    private final TaskArchiver taskArchiver;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    TaskArchiveRepositoryImpl(TaskArchiver taskArchiver, ObjectMapper objectMapper, DataSource dataSource) {
+        this.taskArchiver = taskArchiver;
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public List<TaskView> findArchivedViewsByUserIdAndDateRange(long userId, LocalDate from, LocalDate to) {
+        if (!taskArchiver.isAvailable())
+            return List.of();
+
+        return jdbcTemplate.queryForList(SEGMENTS_QUERY, byte[].class, userId, from.withDayOfMonth(1), to).stream()
+                .flatMap(payload -> TaskArchiveSegment.decode(objectMapper, payload).stream())
+                .filter(task -> !task.eventDate().isBefore(from) && !task.eventDate().isAfter(to))
+                .sorted(Comparator.comparing(TaskView::eventDate).thenComparingLong(TaskView::id))
+                .toList();
+    }
+
+    @Override
+    public List<LocalDate> findArchivedMonthsByUserIdAndDateRange(long userId, LocalDate from, LocalDate to) {
+        if (!taskArchiver.isAvailable())
+            return List.of();
+
+        return jdbcTemplate.queryForList(MONTHS_QUERY, LocalDate.class, userId, from.withDayOfMonth(1), to);
+    }
+
+    @Override
+    public List<TaskDayCount> countArchivedByUserIdGroupByEventDateAndPriority(long userId) {
+        if (!taskArchiver.isAvailable())
+            return List.of();
+
+        return jdbcTemplate.query(DAY_COUNTS_QUERY, (resultSet, rowNum) -> new TaskDayCount(
+                resultSet.getObject("event_date", LocalDate.class),
+                Priority.values()[resultSet.getInt("priority")],
+                resultSet.getLong("task_count")
+        ), userId);
+    }
+
+    @Override
+    public int deleteArchivedByUserIdIn(Collection<Long> userIds) {
+        if (!taskArchiver.isAvailable() || userIds.isEmpty())
+            return 0;
+
+        List<Object[]> arguments = userIds.stream()
+                .map(userId -> new Object[]{userId})
+                .toList();
+
+        jdbcTemplate.batchUpdate("delete from task_archive_day_count where user_id = ?", arguments);
+
+        return Arrays.stream(jdbcTemplate.batchUpdate("delete from task_archive where user_id = ?", arguments)).sum();
+    }
+}
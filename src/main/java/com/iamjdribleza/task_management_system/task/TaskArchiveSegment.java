@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.CollectionType;
+import lombok.experimental.UtilityClass;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encodes archived tasks of a user and month as a single gzip compressed JSON array.
+ * Field names repeat on every task, so segments compress to a fraction of the rows they replace.
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+
+@UtilityClass
+class TaskArchiveSegment {
+
+    /**
+     * Compresses tasks into a segment.
+     *
+     * @param objectMapper Writes the tasks as JSON.
+     * @param tasks Tasks of a single user and month.
+     * @return Segment's payload.
+     */
+    static byte[] encode(ObjectMapper objectMapper, List<TaskView> tasks) {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+
+        try (GZIPOutputStream outputStream = new GZIPOutputStream(payload)) {
+            objectMapper.writeValue(outputStream, tasks);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return payload.toByteArray();
+    }
+
+    /**
+     * Decompresses a segment's tasks.
+     *
+     * @param objectMapper Reads the tasks from JSON.
+     * @param payload Segment's payload.
+     * @return Segment's tasks.
+     */
+    static List<TaskView> decode(ObjectMapper objectMapper, byte[] payload) {
+        CollectionType type = objectMapper.getTypeFactory().constructCollectionType(List.class, TaskView.class);
+
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return objectMapper.readValue(inputStream, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,312 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iamjdribleza.task_management_system.enums.Priority;
+import com.iamjdribleza.task_management_system.enums.TaskEventType;
+import com.iamjdribleza.task_management_system.util.ThreadUtil;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.util.*;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Moves past tasks out of the task table into a compressed archive, keeping the task table to recent tasks.
+ *
+ * Archived tasks are kept as segments, one or more per user and month, in a table range-partitioned by month,
+ * with a yearly partition each. Partitions are created by the application ahead of the years they hold.
+ * Day counts are kept next to the segments, so the calendar doesn't have to decompress them.
+ *
+ * Only tasks occurring once are archived, recurring tasks keep producing occurrences.
+ * Chunks are claimed with SKIP LOCKED, so several nodes can archive at once.
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+
+@Component
+public class TaskArchiver {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskArchiver.class);
+
+    private static final String CREATE_ARCHIVE_TABLE = """
+            create table if not exists task_archive (
+                user_id bigint not null,
+                segment_month date not null,
+                segment_id uuid not null,
+                task_count integer not null,
+                payload bytea not null,
+                primary key (user_id, segment_month, segment_id)
+            ) partition by range (segment_month)
+            """;
+
+    private static final String CREATE_PARTITION = """
+            create table if not exists task_archive_%1$d partition of task_archive
+            for values from ('%1$d-01-01') to ('%2$d-01-01')
+            """;
+
+    private static final String CREATE_DAY_COUNT_TABLE = """
+            create table if not exists task_archive_day_count (
+                user_id bigint not null,
+                event_date date not null,
+                priority integer not null,
+                task_count integer not null,
+                primary key (user_id, event_date, priority)
+            )
+            """;
+
+    private static final String ARCHIVE_EXISTS_QUERY = """
+            select count(*) from information_schema.tables
+            where lower(table_name) in ('task_archive', 'task_archive_day_count')
+            """;
+
+    private static final String OLDEST_QUERY = """
+            select min(event_date) from task
+            where event_date < ? and recurrence_frequency is null and deleted_at is null
+            """;
+
+    // Seeks by owner, so a run reads past every user's recent tasks once instead of once per chunk
+    private static final String CLAIM_QUERY = """
+            select id, reference_id, description, event_date, priority, date_created, date_updated, user_id, version
+            from task
+            where user_id >= ? and event_date < ? and recurrence_frequency is null and deleted_at is null
+            order by user_id, event_date
+            limit ?
+            for update skip locked
+            """;
+
+    private static final String INSERT_SEGMENT = """
+            insert into task_archive (user_id, segment_month, segment_id, task_count, payload)
+            values (?, ?, ?, ?, ?)
+            """;
+
+    private static final String UPSERT_DAY_COUNT = """
+            insert into task_archive_day_count (user_id, event_date, priority, task_count)
+            values (?, ?, ?, ?)
+            on conflict (user_id, event_date, priority)
+            do update set task_count = task_archive_day_count.task_count + excluded.task_count
+            """;
+
+    private static final String DELETE_TASK = "delete from task where id = ?";
+
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int afterMonths;
+    private final int partitionsAhead;
+    private final long intervalSeconds;
+    private final int chunkSize;
+    private final ScheduledExecutorService executorService;
+
+    // Read by the archive's read path, which isn't queried until the tables exist
+    private volatile boolean available;
+
+    public TaskArchiver(ObjectMapper objectMapper,
+                        ApplicationEventPublisher applicationEventPublisher,
+                        DataSource dataSource,
+                        PlatformTransactionManager transactionManager,
+                        @Value("${app.task-archive.enabled:false}") boolean enabled,
+                        @Value("${app.task-archive.after-months:12}") int afterMonths,
+                        @Value("${app.task-archive.partitions-ahead:1}") int partitionsAhead,
+                        @Value("${app.task-archive.interval-seconds:3600}") long intervalSeconds,
+                        @Value("${app.task-archive.chunk-size:1000}") int chunkSize,
+                        @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+
+        this.objectMapper = objectMapper;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.afterMonths = afterMonths;
+        this.partitionsAhead = partitionsAhead;
+        this.intervalSeconds = intervalSeconds;
+        this.chunkSize = chunkSize;
+
+        this.executorService = ThreadUtil.newScheduledExecutor("task-archiver", virtualThreads);
+    }
+
+    /**
+     * Creates the archive's tables and starts archiving periodically.
+     * Tasks archived before archiving was disabled stay readable.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        try {
+            if (enabled)
+                createSchema();
+
+            available = Objects.requireNonNullElse(jdbcTemplate.queryForObject(ARCHIVE_EXISTS_QUERY, Long.class), 0L) == 2;
+        } catch (DataAccessException e) {
+            // Tasks stay in the task table, where they're still served
+            LOGGER.error("Task archive isn't available", e);
+            return;
+        }
+
+        if (enabled && available)
+            executorService.scheduleWithFixedDelay(this::archive, 0, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executorService.shutdownNow();
+    }
+
+    /**
+     * Whether the archive's tables exist and can be read.
+     *
+     * @return true once the archive was found or created on startup.
+     */
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * Archives every task occurring once before the cutoff that isn't claimed by another node.
+     */
+    public void archive() {
+        LocalDate cutoff = LocalDate.now().withDayOfMonth(1).minusMonths(afterMonths);
+        long started = System.nanoTime();
+        long archived = 0;
+
+        try {
+            // Partitions are created before any chunk, so no chunk waits on DDL
+            LocalDate oldest = jdbcTemplate.queryForObject(OLDEST_QUERY, LocalDate.class, cutoff);
+            createPartitions((oldest == null)? Year.now().getValue(): oldest.getYear());
+
+            long[] fromUserId = {0};
+            int claimed;
+
+            // A full chunk means more tasks may be left
+            do {
+                claimed = Objects.requireNonNull(transactionTemplate.execute(status -> archiveChunk(cutoff, fromUserId)));
+                archived += claimed;
+            } while (claimed == chunkSize);
+        } catch (DataAccessException e) {
+            // Tasks left are archived by the next run
+            LOGGER.error("Task archiving stopped after {} tasks", archived, e);
+            return;
+        }
+
+        if (archived > 0)
+            LOGGER.info("Archived {} tasks before {} in {} ms", archived, cutoff, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Moves a chunk of tasks into new segments, one per user and month, and deletes them from the task table.
+     */
+    private int archiveChunk(LocalDate cutoff, long[] fromUserId) {
+        List<TaskView> tasks = jdbcTemplate.query(CLAIM_QUERY, (resultSet, rowNum) -> toTaskView(resultSet), fromUserId[0], cutoff, chunkSize);
+
+        if (tasks.isEmpty())
+            return 0;
+
+        // Next chunk continues with the last owner, who may have tasks left
+        fromUserId[0] = tasks.getLast().userId();
+
+        Map<SegmentKey, List<TaskView>> segments = tasks.stream()
+                .collect(Collectors.groupingBy(
+                        task -> new SegmentKey(task.userId(), task.eventDate().withDayOfMonth(1)),
+                        LinkedHashMap::new,
+                        Collectors.toList()
+                ));
+
+        jdbcTemplate.batchUpdate(INSERT_SEGMENT, segments.entrySet().stream()
+                .map(segment -> new Object[]{
+                        segment.getKey().userId(),
+                        segment.getKey().month(),
+                        UUID.randomUUID(),
+                        segment.getValue().size(),
+                        TaskArchiveSegment.encode(objectMapper, segment.getValue())
+                })
+                .toList());
+
+        Map<DayCountKey, Long> dayCounts = tasks.stream()
+                .collect(Collectors.groupingBy(
+                        task -> new DayCountKey(task.userId(), task.eventDate(), task.priority()),
+                        Collectors.counting()
+                ));
+
+        jdbcTemplate.batchUpdate(UPSERT_DAY_COUNT, dayCounts.entrySet().stream()
+                .map(dayCount -> new Object[]{
+                        dayCount.getKey().userId(),
+                        dayCount.getKey().eventDate(),
+                        dayCount.getKey().priority().ordinal(),
+                        dayCount.getValue().intValue()
+                })
+                .toList());
+
+        jdbcTemplate.batchUpdate(DELETE_TASK, tasks.stream()
+                .map(task -> new Object[]{task.id()})
+                .toList());
+
+        // Still counted in the calendar, so no slots are given
+        tasks.forEach(task -> applicationEventPublisher.publishEvent(new TaskChangedEvent(
+                TaskEventType.ARCHIVED, task.userId(), task.referenceId(), null, null, null, task.version())));
+
+        return tasks.size();
+    }
+
+    private void createSchema() {
+        jdbcTemplate.execute(CREATE_ARCHIVE_TABLE);
+        jdbcTemplate.execute(CREATE_DAY_COUNT_TABLE);
+        createPartitions(Year.now().getValue());
+    }
+
+    /**
+     * Creates yearly partitions from a year up to the years ahead of the current one.
+     */
+    private void createPartitions(int fromYear) {
+        for (int year = fromYear; year <= Year.now().getValue() + partitionsAhead; year++)
+            jdbcTemplate.execute(CREATE_PARTITION.formatted(year, year + 1));
+    }
+
+    private static TaskView toTaskView(ResultSet resultSet) throws SQLException {
+        return new TaskView(
+                resultSet.getLong("id"),
+                resultSet.getObject("reference_id", UUID.class),
+                resultSet.getString("description"),
+                resultSet.getObject("event_date", LocalDate.class),
+                Priority.values()[resultSet.getInt("priority")],
+                toLocalDateTime(resultSet.getTimestamp("date_created")),
+                toLocalDateTime(resultSet.getTimestamp("date_updated")),
+                resultSet.getLong("user_id"),
+                null,
+                resultSet.getLong("version")
+        );
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return (timestamp == null)? null: timestamp.toLocalDateTime();
+    }
+
+    private record SegmentKey(long userId, LocalDate month) {}
+
+    private record DayCountKey(long userId, LocalDate eventDate, Priority priority) {}
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.iamjdribleza.task_management_system.enums.TaskEventType;
+import com.iamjdribleza.task_management_system.util.CacheUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Bounded in-process cache of task projections keyed by reference id.
+ * Projections carry the owner's id, so ownership is checked without querying the database.
+ * Kept coherent with task writes committed by this node.
+ *
+ * The cache is local to the node, so every lookup is checked against the task's version read from the primary.
+ * A projection at another version was written by another node or loaded from a lagging replica, and is loaded again.
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+
+@Component
+public class TaskCache {
+
+    private final AsyncCache<UUID, TaskView> tasks;
+
+    public TaskCache(@Value("${app.task-cache.maximum-size:10000}") long maximumSize,
+                     @Value("${app.task-cache.ttl-seconds:600}") long ttlSeconds,
+                     MeterRegistry meterRegistry) {
+
+        this.tasks = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .buildAsync();
+
+        // Export hit, miss and eviction counters
+        CaffeineCacheMetrics.monitor(meterRegistry, tasks, "task");
+    }
+
+    /**
+     * Gets a task using reference id, loads it when absent or not at the version.
+     * Only projections at the version are kept, a load behind it is returned but loaded again next time.
+     *
+     * @param referenceId Task's reference id.
+     * @param version Task's committed version, read from the primary.
+     * @param loader Loads the task on a cache miss, returns null if task doesn't exist.
+     * @return Task's projection if it exists.
+     */
+    public Optional<TaskView> get(UUID referenceId, long version, Function<UUID, TaskView> loader) {
+        TaskView task = CacheUtil.get(tasks, referenceId, loader);
+
+        if (task == null || task.version() == version)
+            return Optional.ofNullable(task);
+
+        tasks.synchronous().asMap().remove(referenceId, task);
+        TaskView loaded = loader.apply(referenceId);
+
+        // Writes racing this load may have cached a more recent version
+        if (loaded != null && loaded.version() == version)
+            tasks.synchronous().asMap().merge(referenceId, loaded, (kept, candidate) ->
+                    (kept.version() > candidate.version())? kept: candidate);
+
+        return Optional.ofNullable(loaded);
+    }
+
+    /**
+     * Hit, miss and eviction counters.
+     *
+     * @return Cache statistics.
+     */
+    public CacheStats stats() {
+        return tasks.synchronous().stats();
+    }
+
+    /**
+     * Writes through created tasks and evicts updated or deleted ones.
+     *
+     * @param event Committed task change.
+     */
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.type() == TaskEventType.CREATED && event.task() != null)
+            tasks.synchronous().put(event.referenceId(), event.task());
+        else
+            tasks.synchronous().invalidate(event.referenceId());
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.iamjdribleza.task_management_system.enums.Priority;
+import com.iamjdribleza.task_management_system.util.TransactionUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Per-user counters of tasks by day and priority.
+ * Counters are loaded with a single GROUP BY the first time a user's calendar is read,
+ * then kept up to date with committed task writes, so a read costs one lookup per day.
+ * Only tasks that occur once are counted, occurrences of recurring tasks are expanded for the range being read.
+ *
+ * Counters are local to the node. Every calendar is tagged with the version of the user's lists it counts,
+ * and is only served at the version read from the database, so a write committed by another node makes it load again.
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+
+@Component
+public class TaskCalendar {
+
+    // Users sharing a stripe share write counters, collisions only cost a reload
+    private static final int STRIPES = 1024;
+
+    private final Cache<Long, UserCalendar> calendars;
+    private final TaskRepository taskRepository;
+
+    // Writes published but not yet completed, and writes completed, used to detect loads racing a write
+    private final AtomicIntegerArray pendingWrites = new AtomicIntegerArray(STRIPES);
+    private final AtomicLongArray completedWrites = new AtomicLongArray(STRIPES);
+
+    public TaskCalendar(TaskRepository taskRepository,
+                        @Value("${app.task-calendar.maximum-size:10000}") long maximumSize,
+                        @Value("${app.task-calendar.ttl-seconds:3600}") long ttlSeconds,
+                        MeterRegistry meterRegistry) {
+
+        this.taskRepository = taskRepository;
+        this.calendars = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        // Export hit, miss and eviction counters
+        CaffeineCacheMetrics.monitor(meterRegistry, calendars, "task.calendar");
+    }
+
+    /**
+     * Counts user's tasks on every day of a date range.
+     *
+     * @param userId Owner's id.
+     * @param version Version of the user's lists, read before calling.
+     * @param from First day of the range.
+     * @param to Last day of the range.
+     * @param occurrences Occurrences of recurring tasks within the range.
+     * @return Number of tasks by priority for every day of the range, in order.
+     */
+    public List<TaskCalendarDayDto> countByDay(long userId, long version, LocalDate from, LocalDate to, Collection<TaskOccurrence> occurrences) {
+        UserCalendar calendar = calendars.getIfPresent(userId);
+
+        if (calendar == null || calendar.version != version)
+            calendar = load(userId, version);
+
+        return calendar.countByDay(from, to, occurrences);
+    }
+
+    /**
+     * Marks a task write as in flight until its transaction completes.
+     * Runs when the write is published, so a load that starts before the commit can tell it raced the write.
+     *
+     * @param write Task change or import chunk, not yet committed.
+     */
+    @EventListener
+    public void onTaskWrite(TaskWrite write) {
+        int stripe = stripe(write.userId());
+        pendingWrites.incrementAndGet(stripe);
+
+        TransactionUtil.afterCompletion(committed -> {
+            completedWrites.incrementAndGet(stripe);
+            pendingWrites.decrementAndGet(stripe);
+        });
+    }
+
+    /**
+     * Counts the writes of a committed transaction, if the owner's calendar is at the version just before it.
+     * A calendar at an older version missed writes of another node, and is dropped.
+     * Runs after the commit but before the writes complete, so loads racing them aren't kept.
+     *
+     * @param event Committed writes of a user's tasks.
+     */
+    @EventListener
+    public void onTaskListChanged(TaskListChangedEvent event) {
+        UserCalendar calendar = calendars.getIfPresent(event.userId());
+
+        // Cold users are counted by the database on their next read, calendars loaded after the commit count it already
+        if (calendar == null || calendar.version >= event.version())
+            return;
+
+        if (!calendar.advance(event.version())) {
+            calendars.asMap().remove(event.userId(), calendar);
+            return;
+        }
+
+        for (TaskWrite write : event.writes()) {
+            switch (write) {
+                case TaskChangedEvent changed -> apply(calendar, changed);
+                case TasksImportedEvent imported -> imported.tasks().stream()
+                        .filter(task -> task.recurrence() == null)
+                        .forEach(task -> calendar.add(task.eventDate(), task.priority(), 1));
+            }
+        }
+    }
+
+    private static void apply(UserCalendar calendar, TaskChangedEvent event) {
+
+        // Recurring tasks aren't counted by their event date
+        if (event.previous() != null && event.previous().recurrence() == null)
+            calendar.add(event.previous().eventDate(), event.previous().priority(), -1);
+
+        if (event.current() != null && event.current().recurrence() == null)
+            calendar.add(event.current().eventDate(), event.current().priority(), 1);
+    }
+
+    /**
+     * Loads user's counters using the database.
+     * Counters are only kept if no write of this node was in flight or completed while they were loaded,
+     * otherwise the write could be missing from them or be counted twice.
+     * A write of another node committed meanwhile changes the version, so counters tagged with the old one aren't served.
+     */
+    private UserCalendar load(long userId, long version) {
+        int stripe = stripe(userId);
+        long completed = completedWrites.get(stripe);
+        boolean idle = pendingWrites.get(stripe) == 0;
+
+        UserCalendar calendar = new UserCalendar(version);
+        taskRepository.countByUserIdGroupByEventDateAndPriority(userId)
+                .forEach(dayCount -> calendar.add(dayCount.eventDate(), dayCount.priority(), (int) dayCount.count()));
+
+        // Archived tasks are still counted, archiving a task is a write so a load racing it isn't kept
+        taskRepository.countArchivedByUserIdGroupByEventDateAndPriority(userId)
+                .forEach(dayCount -> calendar.add(dayCount.eventDate(), dayCount.priority(), (int) dayCount.count()));
+
+        if (!idle)
+            return calendar;
+
+        // A calendar at a more recent version is kept, e.g. if this load read a lagging replica
+        UserCalendar kept = calendars.asMap().merge(userId, calendar, (resident, candidate) ->
+                (resident.version > candidate.version)? resident: candidate);
+
+        if (kept == calendar && (pendingWrites.get(stripe) != 0 || completedWrites.get(stripe) != completed))
+            calendars.asMap().remove(userId, calendar);
+
+        return calendar;
+    }
+
+    private static int stripe(long userId) {
+        return (int) Math.floorMod(Long.hashCode(userId), (long) STRIPES);
+    }
+
+    /**
+     * Task counters of a single user, by day then priority.
+     */
+    private static final class UserCalendar {
+        private final NavigableMap<LocalDate, int[]> countsByDay = new TreeMap<>();
+
+        // Version of the user's lists counted, only advanced by one committed transaction at a time
+        private volatile long version;
+
+        private UserCalendar(long version) {
+            this.version = version;
+        }
+
+        /**
+         * Moves the counters to the version of a committed transaction about to be counted.
+         *
+         * @return false if the counters missed a transaction and must be loaded again.
+         */
+        private synchronized boolean advance(long committedVersion) {
+            if (version != committedVersion - 1)
+                return false;
+
+            version = committedVersion;
+            return true;
+        }
+
+        private synchronized void add(LocalDate day, Priority priority, int delta) {
+            int[] counts = countsByDay.computeIfAbsent(day, key -> new int[Priority.values().length]);
+            counts[priority.ordinal()] += delta;
+
+            // Days without tasks aren't kept
+            if (Arrays.stream(counts).allMatch(count -> count <= 0))
+                countsByDay.remove(day);
+        }
+
+        private synchronized List<TaskCalendarDayDto> countByDay(LocalDate from, LocalDate to, Collection<TaskOccurrence> occurrences) {
+            List<TaskCalendarDayDto> days = new ArrayList<>();
+
+            // Occurrences by day offset then priority
+            int[][] occurrenceCounts = new int[(int) ChronoUnit.DAYS.between(from, to) + 1][];
+            for (TaskOccurrence occurrence : occurrences) {
+                int offset = (int) ChronoUnit.DAYS.between(from, occurrence.task().eventDate());
+
+                if (occurrenceCounts[offset] == null)
+                    occurrenceCounts[offset] = new int[Priority.values().length];
+
+                occurrenceCounts[offset][occurrence.task().priority().ordinal()]++;
+            }
+
+            int offset = 0;
+            for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1), offset++) {
+                int[] counts = countsByDay.get(day);
+                int[] dayOccurrences = occurrenceCounts[offset];
+                Map<Priority, Integer> priorities = new EnumMap<>(Priority.class);
+                int total = 0;
+
+                for (Priority priority : Priority.values()) {
+                    int count = ((counts == null)? 0: counts[priority.ordinal()])
+                            + ((dayOccurrences == null)? 0: dayOccurrences[priority.ordinal()]);
+
+                    priorities.put(priority, count);
+                    total += count;
+                }
+
+                days.add(new TaskCalendarDayDto(day, total, priorities));
+            }
+
+            return days;
+        }
+    }
+}
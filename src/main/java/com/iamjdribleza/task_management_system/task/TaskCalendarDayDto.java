@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import com.iamjdribleza.task_management_system.enums.Priority;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Stores the number of tasks on a day.
+ *
+ * @param date day of the calendar
+ * @param total number of tasks on the day
+ * @param priorities number of tasks on the day by priority
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+public record TaskCalendarDayDto(
+        LocalDate date,
+        int total,
+        Map<Priority, Integer> priorities
+) {}
@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import com.iamjdribleza.task_management_system.enums.TaskEventType;
+
+import java.util.UUID;
+
+/**
+ * Stores a committed change of a task, as pushed to its owner's event streams.
+ *
+ * @param type kind of change
+ * @param referenceId task's reference id
+ * @param version task's version after the change, 0 for deletes
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+public record TaskChangeDto(
+        TaskEventType type,
+        UUID referenceId,
+        long version
+) {}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import com.iamjdribleza.task_management_system.enums.TaskEventType;
+
+import java.util.UUID;
+
+/**
+ * Published by TaskService whenever a task is written.
+ * Listeners should use @TransactionalEventListener so they only see committed changes.
+ *
+ * @param type kind of change
+ * @param userId owner's id
+ * @param referenceId task's reference id
+ * @param task task's new state, null for deletes or when the write didn't load the task
+ * @param previous task's calendar slot before the write, null for creates or updates that keep the slot
+ * @param current task's calendar slot after the write, null for deletes or updates that keep the slot
+ * @param version task's version after the write, 0 for deletes
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+public record TaskChangedEvent(
+        TaskEventType type,
+        long userId,
+        UUID referenceId,
+        TaskView task,
+        TaskSlot previous,
+        TaskSlot current,
+        long version
+) implements TaskWrite {}
@@ -6,14 +6,29 @@
 
 package com.iamjdribleza.task_management_system.task;
 
+import com.iamjdribleza.task_management_system.api.CursorPage;
+import com.iamjdribleza.task_management_system.api.Versioned;
+import com.iamjdribleza.task_management_system.enums.ExportFormat;
+import com.iamjdribleza.task_management_system.exceptions.PreconditionFailedException;
+import com.iamjdribleza.task_management_system.exceptions.ResourceNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.net.URI;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -30,6 +45,9 @@ import java.util.UUID;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskExportService taskExportService;
+    private final TaskImportService taskImportService;
+    private final TaskEventStream taskEventStream;
 
     /**
      * GET /api/v1/tasks
@@ -46,25 +64,160 @@ public class TaskController {
      * GET /api/v1/tasks?page=1
      * Gets all today's tasks.
      *
+     * Answers 304 without reading any task if the client's copy is current.
+     *
      * @param pageOffset Page offset.
+     * @param webRequest WebRequest holding the conditional headers.
      * @return ResponseEntity of tasks on current date with page details.
      */
     @GetMapping("/today")
-    public ResponseEntity<Page<TaskDto>> getTodaysTasks(@RequestParam int pageOffset, HttpServletRequest request){
-        String token = request.getHeader("Authorization").split(" ")[1];
-        return ResponseEntity.ok(taskService.getTodaysTasks(token, pageOffset));
+    public ResponseEntity<Page<TaskDto>> getTodaysTasks(@RequestParam int pageOffset, WebRequest webRequest){
+        // Read once, a single query when the tag matches or the day is resident
+        long version = taskService.getTasksVersion();
+
+        if (webRequest.checkNotModified(taskService.getTodaysTasksETag(pageOffset, version)))
+            return null;
+
+        Versioned<Page<TaskDto>> todaysTasks = taskService.getTodaysTasks(pageOffset, version);
+
+        return ResponseEntity.ok().eTag(todaysTasks.eTag()).body(todaysTasks.body());
+    }
+
+    /**
+     * GET /api/v1/tasks/search?query=groceries&pageOffset=0
+     * Searches task descriptions, best matches first.
+     *
+     * @param query Words to be searched, each one matched as a prefix.
+     * @param pageOffset Page offset.
+     * @return ResponseEntity of matched tasks with page details.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<Page<TaskDto>> searchTasks(@RequestParam String query,
+                                                     @RequestParam(defaultValue = "0") int pageOffset){
+
+        return ResponseEntity.ok(taskService.searchTasks(query, pageOffset));
+    }
+
+    /**
+     * GET /api/v1/tasks/events
+     * Streams user's committed task changes as server-sent events, named created, updated, deleted or archived.
+     *
+     * A resync event replaces changes the stream lost, the client then reloads its tasks.
+     * Clients should open the stream before loading their tasks, so no change falls in between.
+     *
+     * @param lastEventId Id of the last event received, sent by clients reconnecting to a stream.
+     * @return SseEmitter of user's task changes.
+     */
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTaskEvents(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId){
+        return taskEventStream.subscribe(lastEventId != null);
+    }
+
+    /**
+     * GET /api/v1/tasks/calendar?from=2025-01-01&to=2025-01-31
+     * Counts tasks by priority on every day of a date range.
+     *
+     * @param from First day of the range.
+     * @param to Last day of the range.
+     * @return ResponseEntity of task counts for every day of the range.
+     */
+    @GetMapping("/calendar")
+    public ResponseEntity<List<TaskCalendarDayDto>> getCalendar(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to){
+
+        return ResponseEntity.ok(taskService.getCalendar(from, to));
+    }
+
+    /**
+     * GET /api/v1/tasks/archive?from=2020-01-01&to=2020-12-31
+     * Gets archived tasks of a date range.
+     *
+     * @param from First day of the range.
+     * @param to Last day of the range.
+     * @return ResponseEntity of archived tasks ordered by event date.
+     */
+    @GetMapping("/archive")
+    public ResponseEntity<List<TaskDto>> getArchivedTasks(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                          @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to){
+
+        return ResponseEntity.ok(taskService.getArchivedTasks(from, to));
+    }
+
+    /**
+     * GET /api/v1/tasks/scroll?cursor=
+     * Gets user's tasks using cursor based pagination.
+     *
+     * @param cursor Cursor from the previous response, omitted for the first slice.
+     * @return ResponseEntity of tasks with the next cursor.
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPage<TaskDto>> scrollTasks(@RequestParam(required = false) String cursor){
+        return ResponseEntity.ok(taskService.scrollTasks(cursor));
+    }
+
+    /**
+     * GET /api/v1/tasks/today/scroll?cursor=
+     * Gets user's tasks on current date using cursor based pagination.
+     *
+     * @param cursor Cursor from the previous response, omitted for the first slice.
+     * @return ResponseEntity of tasks with the next cursor.
+     */
+    @GetMapping("/today/scroll")
+    public ResponseEntity<CursorPage<TaskDto>> scrollTodaysTasks(@RequestParam(required = false) String cursor){
+        return ResponseEntity.ok(taskService.scrollTodaysTasks(cursor));
+    }
+
+    /**
+     * GET /api/v1/tasks/export?format=NDJSON&from=2025-01-01&to=2025-12-31
+     * Exports user's tasks, streamed as they are read from the database.
+     * Recurring tasks are exported as stored, or as their occurrences when a date range is given.
+     *
+     * @param format NDJSON or CSV.
+     * @param from First day of the range, omitted to export every task.
+     * @param to Last day of the range, omitted to export every task.
+     * @param response HttpServletResponse the tasks are written to.
+     * @throws IOException if tasks can't be written to the response.
+     */
+    @GetMapping("/export")
+    public void exportTasks(@RequestParam(defaultValue = "NDJSON") ExportFormat format,
+                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                            HttpServletResponse response) throws IOException {
+
+        String filename = "tasks." + format.name().toLowerCase();
+
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString());
+
+        taskExportService.exportTasks(format, from, to, response.getOutputStream());
     }
 
     /**
      * GET /api/v1/tasks/{refId}
      * Gets specific task using reference id.
      *
+     * Answers 304 without reading the task if the client's copy is current.
+     *
      * @param refId User's reference id.
+     * @param webRequest WebRequest holding the conditional headers.
      * @return ResponseEntity of a task.
      */
     @GetMapping("/{refId}")
-    public ResponseEntity<TaskDto> getTask(@PathVariable UUID refId){
-        return ResponseEntity.ok(taskService.getTask(refId));
+    public ResponseEntity<TaskDto> getTask(@PathVariable UUID refId, WebRequest webRequest){
+        long version = taskService.findTaskVersion(refId)
+                .orElseThrow(() -> new ResourceNotFoundException("refId"));
+
+        if (webRequest.checkNotModified(TaskVersions.taskETag(version)))
+            return null;
+
+        Versioned<TaskDto> task = taskService.getTask(refId, version);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(task.eTag());
+
+        if (task.lastModified() != null)
+            response.lastModified(task.lastModified());
+
+        return response.body(task.body());
     }
 
     /**
@@ -75,27 +228,55 @@ public class TaskController {
      * @return ResponseEntity with HttpStatus 204.
      */
     @PostMapping
-    public ResponseEntity<?> createTask(@Valid @RequestBody TaskDto taskDto, HttpServletRequest request){
-        String token = request.getHeader("Authorization").split(" ")[1];
-
-        String refId = taskService.createTask(token, taskDto);
+    public ResponseEntity<?> createTask(@Valid @RequestBody TaskDto taskDto){
+        String refId = taskService.createTask(taskDto);
         URI location = URI.create("/tasks/"+refId);
 
         return ResponseEntity.created(location).build();
     }
 
+    /**
+     * POST /api/v1/tasks/import?format=NDJSON&fromRow=0
+     * Imports tasks from the request body, parsed as it's being read.
+     *
+     * @param format NDJSON or CSV.
+     * @param fromRow Rows to skip, nextRow of an incomplete import.
+     * @param request HttpServletRequest the tasks are read from.
+     * @return ResponseEntity of import's outcome with rejected rows.
+     * @throws IOException if request body can't be read.
+     */
+    @PostMapping("/import")
+    public ResponseEntity<TaskImportResultDto> importTasks(@RequestParam(defaultValue = "NDJSON") ExportFormat format,
+                                                          @RequestParam(defaultValue = "0") long fromRow,
+                                                          HttpServletRequest request) throws IOException {
+
+        return ResponseEntity.ok(taskImportService.importTasks(format, request.getInputStream(), fromRow));
+    }
+
     /**
      * PATCH /api/v1/tasks/{refId}
-     * Updates a task
+     * Updates the supplied fields of a task.
+     *
+     * With If-Match, answers 412 unless the task is still at the tagged version.
      *
      * @param refId User's reference id.
-     * @param taskDto Task's new details to replace the old data.
-     * @return ResponseEntity with HttpStatus 204.
+     * @param taskDto Task's changes, fields left out are kept.
+     * @param ifMatch Entity tag the changes are based on, optional.
+     * @return ResponseEntity with HttpStatus 204 and the task's new entity tag.
      */
     @PatchMapping("/{refId}")
-    public ResponseEntity<?> updateTask(@PathVariable UUID refId, @RequestBody TaskDto taskDto){
-        taskService.updateTask(refId, taskDto);
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<?> updateTask(@PathVariable UUID refId,
+                                        @RequestBody TaskDto taskDto,
+                                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch){
+
+        // A tag the task can never have, e.g. a weak one, fails the precondition
+        Long expectedVersion = (ifMatch == null || ifMatch.strip().equals("*"))?
+                null:
+                TaskVersions.parseTaskETag(ifMatch)
+                        .orElseThrow(() -> new PreconditionFailedException("Task was changed since it was read"));
+
+        String eTag = taskService.updateTask(refId, taskDto, expectedVersion);
+        return ResponseEntity.noContent().eTag(eTag).build();
     }
 
     /**
@@ -110,4 +291,50 @@ public class TaskController {
         taskService.deleteTask(refId);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * PUT /api/v1/tasks/{refId}/occurrences/{occurrenceDate}
+     * Changes or cancels a single occurrence of a recurring task
+     *
+     * @param refId Recurring task's reference id.
+     * @param occurrenceDate Date the occurrence falls on by the task's recurrence.
+     * @param overrideDto Occurrence's changes.
+     * @return ResponseEntity with HttpStatus 204.
+     */
+    @PutMapping("/{refId}/occurrences/{occurrenceDate}")
+    public ResponseEntity<?> overrideOccurrence(@PathVariable UUID refId,
+                                                @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate occurrenceDate,
+                                                @RequestBody TaskOccurrenceOverrideDto overrideDto){
+
+        taskService.overrideOccurrence(refId, occurrenceDate, overrideDto);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * DELETE /api/v1/tasks/{refId}/occurrences/{occurrenceDate}
+     * Removes an occurrence's changes, so it follows the recurring task again
+     *
+     * @param refId Recurring task's reference id.
+     * @param occurrenceDate Date the occurrence falls on by the task's recurrence.
+     * @return ResponseEntity with HttpStatus 204.
+     */
+    @DeleteMapping("/{refId}/occurrences/{occurrenceDate}")
+    public ResponseEntity<?> restoreOccurrence(@PathVariable UUID refId,
+                                               @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate occurrenceDate){
+
+        taskService.restoreOccurrence(refId, occurrenceDate);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * POST /api/v1/tasks/bulk
+     * Creates, updates and deletes many tasks in a single transaction
+     *
+     * @param bulkTaskRequestDto Tasks to be created, updated and deleted.
+     * @return ResponseEntity of every item's outcome.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkTaskResultDto>> bulkTasks(@Valid @RequestBody BulkTaskRequestDto bulkTaskRequestDto){
+        return ResponseEntity.ok(taskService.bulkTasks(bulkTaskRequestDto));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import com.iamjdribleza.task_management_system.exceptions.InvalidArgumentException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * Position of a task in listing order (event date, priority, id), all descending.
+ * Exposed to the client as an opaque string.
+ *
+ * @param eventDate task's event date
+ * @param priority task's priority ordinal
+ * @param id task's id
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+public record TaskCursor(
+        LocalDate eventDate,
+        int priority,
+        long id
+) {
+
+    // Position before every task, used when no cursor is given
+    public static final TaskCursor FIRST = new TaskCursor(LocalDate.of(9999, 12, 31), Integer.MAX_VALUE, Long.MAX_VALUE);
+
+    /**
+     * Creates the cursor that points right after a task.
+     *
+     * @param task Last task of a slice.
+     * @return Task's cursor.
+     */
+    public static TaskCursor of(Task task) {
+        return new TaskCursor(task.getEventDate(), task.getPriority().ordinal(), task.getId());
+    }
+
+    /**
+     * Decodes a cursor sent by the client.
+     *
+     * @param cursor Encoded cursor, null or blank for the first slice.
+     * @return Decoded cursor.
+     * @throws InvalidArgumentException if cursor is malformed.
+     */
+    public static TaskCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank())
+            return FIRST;
+
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+
+            return new TaskCursor(LocalDate.parse(parts[0]), Integer.parseInt(parts[1]), Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new InvalidArgumentException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Encodes cursor as an opaque string.
+     *
+     * @return Encoded cursor.
+     */
+    public String encode() {
+        String cursor = eventDate + "|" + priority + "|" + id;
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+}
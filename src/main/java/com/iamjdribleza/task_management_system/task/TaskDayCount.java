@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import com.iamjdribleza.task_management_system.enums.Priority;
+
+import java.time.LocalDate;
+
+/**
+ * Number of tasks on a day with the same priority, aggregated by the database.
+ *
+ * @param eventDate task's date occurs
+ * @param priority task's priority
+ * @param count number of tasks
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+public record TaskDayCount(
+        LocalDate eventDate,
+        Priority priority,
+        long count
+) {}
@@ -7,6 +7,7 @@
 package com.iamjdribleza.task_management_system.task;
 
 import com.iamjdribleza.task_management_system.enums.Priority;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
@@ -21,6 +22,8 @@ import java.util.UUID;
  * @param eventDate task's date occurs
  * @param timeAgo time passed upon task creation
  * @param priority task's priority
+ * @param recurrence task's recurrence, null for tasks that occur once
+ * @param occurrenceDate date an expanded occurrence falls on by the task's recurrence, null otherwise
  *
  * @author iamjdribleza
  * @version 1.0
@@ -36,5 +39,10 @@ public record TaskDto(
 
         String timeAgo,
 
-        Priority priority
+        Priority priority,
+
+        @Valid
+        Recurrence recurrence,
+
+        LocalDate occurrenceDate
 ) {}
\ No newline at end of file
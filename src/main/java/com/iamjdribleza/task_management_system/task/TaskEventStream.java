@@ -0,0 +1,379 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import com.iamjdribleza.task_management_system.auth.AuthenticationService;
+import com.iamjdribleza.task_management_system.user.UserDeletedEvent;
+import com.iamjdribleza.task_management_system.user.UserRepository;
+import com.iamjdribleza.task_management_system.user.UserTasksVersion;
+import com.iamjdribleza.task_management_system.util.ThreadUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes committed task changes to their owners' open event streams.
+ *
+ * The committing thread only buffers a change, a sender thread writes it, so a slow client holds up no one else.
+ * Every stream's buffer is bounded, a client too slow to take its changes loses them and is told to reload instead.
+ * Streams that sent nothing for a while get a heartbeat, which keeps proxies from closing them and finds dead ones.
+ * An idle stream holds no thread, only its connection and an empty buffer.
+ *
+ * Changes are only pushed by the node that committed them. Every stream knows the version of its user's lists
+ * it's caught up with, and the versions of subscribed users are polled from the database,
+ * so a write committed by another node reaches the stream as a resync within app.task-events.poll-millis.
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+
+@Component
+public class TaskEventStream {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskEventStream.class);
+
+    // Replaces the changes a stream lost, the client reloads its tasks
+    private static final String RESYNC = "resync";
+
+    // Users whose versions are read by a single query
+    private static final int POLL_BATCH_SIZE = 1000;
+
+    private final AuthenticationService authenticationService;
+    private final TaskVersions taskVersions;
+    private final UserRepository userRepository;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final long heartbeatMillis;
+    private final long pollMillis;
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong eventIds = new AtomicLong();
+    private final Counter resyncs;
+
+    // Platform threads, SseEmitter writes inside a monitor and a virtual thread would stay pinned on a slow client
+    private final ExecutorService senders;
+    private final ScheduledExecutorService heartbeats;
+
+    public TaskEventStream(AuthenticationService authenticationService,
+                           TaskVersions taskVersions,
+                           UserRepository userRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.task-events.buffer-size:64}") int bufferSize,
+                           @Value("${app.task-events.timeout-millis:1800000}") long timeoutMillis,
+                           @Value("${app.task-events.heartbeat-millis:15000}") long heartbeatMillis,
+                           @Value("${app.task-events.poll-millis:2000}") long pollMillis,
+                           @Value("${app.task-events.sender-threads:4}") int senderThreads,
+                           @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+
+        this.authenticationService = authenticationService;
+        this.taskVersions = taskVersions;
+        this.userRepository = userRepository;
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeoutMillis;
+        this.heartbeatMillis = heartbeatMillis;
+        this.pollMillis = pollMillis;
+
+        this.senders = ThreadUtil.newFixedExecutor("task-events", senderThreads);
+        this.heartbeats = ThreadUtil.newScheduledExecutor("task-events-heartbeat", virtualThreads);
+
+        Gauge.builder("task.events.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open task event streams")
+                .register(meterRegistry);
+
+        this.resyncs = Counter.builder("task.events.resyncs")
+                .description("Streams whose buffered changes were dropped for a resync")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        heartbeats.scheduleAtFixedRate(this::sendHeartbeats, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+        heartbeats.scheduleWithFixedDelay(this::pollVersions, pollMillis, pollMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Ends every stream, clients reconnect to another node or after the restart.
+     * Runs as soon as the context starts closing, graceful shutdown would otherwise wait for the open streams.
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void stop() {
+        heartbeats.shutdownNow();
+        senders.shutdownNow();
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    /**
+     * Opens a stream of the authenticated user's task changes.
+     *
+     * @param resumed Whether the client reconnects to a stream it had, the changes in between are lost.
+     * @return Emitter of the stream.
+     */
+    public SseEmitter subscribe(boolean resumed) {
+        long userId = authenticationService.getAuthenticatedIdentity().userId();
+
+        // Read before subscribing, a write committed in between is caught up with by a resync
+        Subscriber subscriber = new Subscriber(userId, taskVersions.userVersion(userId), new SseEmitter(timeoutMillis));
+
+        // Called on timeout and on network errors as well
+        subscriber.emitter.onCompletion(() -> unsubscribe(subscriber));
+        subscriber.emitter.onTimeout(subscriber.emitter::complete);
+
+        subscribers.compute(userId, (key, userSubscribers) -> {
+            Set<Subscriber> subscribed = (userSubscribers == null)? ConcurrentHashMap.newKeySet(): userSubscribers;
+            subscribed.add(subscriber);
+
+            return subscribed;
+        });
+        subscriberCount.incrementAndGet();
+
+        if (resumed)
+            subscriber.resync();
+
+        return subscriber.emitter;
+    }
+
+    /**
+     * Buffers a committed change for the owner's streams.
+     *
+     * @param event Committed task change.
+     */
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        Set<Subscriber> userSubscribers = subscribers.get(event.userId());
+
+        if (userSubscribers == null)
+            return;
+
+        TaskChangeDto change = new TaskChangeDto(event.type(), event.referenceId(), event.version());
+        userSubscribers.forEach(subscriber -> subscriber.offer(change));
+    }
+
+    /**
+     * Moves the owner's streams to the version of a committed transaction, its changes are pushed one by one.
+     * Streams that aren't at the version just before it missed writes of another node, and are told to reload.
+     *
+     * @param event Committed writes of a user's tasks.
+     */
+    @EventListener
+    public void onTaskListChanged(TaskListChangedEvent event) {
+        Set<Subscriber> userSubscribers = subscribers.get(event.userId());
+
+        if (userSubscribers != null)
+            userSubscribers.forEach(subscriber -> subscriber.catchUp(event.version(), true));
+    }
+
+    /**
+     * Tells the owner's streams to reload once a chunk of imported tasks is committed, instead of a change per task.
+     *
+     * @param event Committed import chunk.
+     */
+    @TransactionalEventListener
+    public void onTasksImported(TasksImportedEvent event) {
+        Set<Subscriber> userSubscribers = subscribers.get(event.userId());
+
+        if (userSubscribers != null)
+            userSubscribers.forEach(Subscriber::resync);
+    }
+
+    /**
+     * Ends the streams of a deleted user.
+     *
+     * @param event Committed user deletion.
+     */
+    @TransactionalEventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        Set<Subscriber> userSubscribers = subscribers.get(event.userId());
+
+        if (userSubscribers != null)
+            userSubscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscriber.closed = true;
+
+        subscribers.computeIfPresent(subscriber.userId, (key, userSubscribers) -> {
+            if (userSubscribers.remove(subscriber))
+                subscriberCount.decrementAndGet();
+
+            return userSubscribers.isEmpty()? null: userSubscribers;
+        });
+    }
+
+    /**
+     * Reads the versions of subscribed users, streams behind them missed writes of another node.
+     * A poll right between a local commit and its event resyncs needlessly, the change is still pushed.
+     * Runs on the heartbeat thread, a slow database delays heartbeats but no request.
+     */
+    private void pollVersions() {
+        List<Long> userIds = new ArrayList<>(subscribers.keySet());
+
+        for (int start = 0; start < userIds.size(); start += POLL_BATCH_SIZE) {
+            List<UserTasksVersion> versions;
+
+            try {
+                versions = userRepository.findTasksVersionsByIdIn(userIds.subList(start, Math.min(start + POLL_BATCH_SIZE, userIds.size())));
+            } catch (DataAccessException e) {
+                // Polled again on the next run
+                LOGGER.warn("Polling task list versions failed", e);
+                return;
+            }
+
+            for (UserTasksVersion version : versions) {
+                Set<Subscriber> userSubscribers = subscribers.get(version.userId());
+
+                if (userSubscribers != null)
+                    userSubscribers.forEach(subscriber -> subscriber.catchUp(version.tasksVersion(), false));
+            }
+        }
+    }
+
+    private void sendHeartbeats() {
+        long idleSince = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(heartbeatMillis);
+
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(subscriber -> {
+            if (subscriber.lastSentNanos - idleSince <= 0)
+                subscriber.heartbeat();
+        }));
+    }
+
+    /**
+     * Open stream of a user, written by at most one sender at a time.
+     */
+    private final class Subscriber {
+        private final long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<TaskChangeDto> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean resyncDue = new AtomicBoolean();
+        private final AtomicBoolean heartbeatDue = new AtomicBoolean();
+
+        // Version of the user's lists the stream has every change of
+        private final AtomicLong version;
+
+        // Set while a sender is writing to the stream or about to
+        private final AtomicBoolean sending = new AtomicBoolean();
+
+        private volatile long lastSentNanos = System.nanoTime();
+        private volatile boolean closed;
+
+        private Subscriber(long userId, long version, SseEmitter emitter) {
+            this.userId = userId;
+            this.version = new AtomicLong(version);
+            this.emitter = emitter;
+        }
+
+        /**
+         * Moves the stream to a committed version, resyncs it if it missed a version on the way.
+         *
+         * @param committedVersion Version of the user's lists.
+         * @param pushed Whether the changes of the version itself are pushed to the stream.
+         */
+        private void catchUp(long committedVersion, boolean pushed) {
+            long caughtUp = pushed? committedVersion - 1: committedVersion;
+
+            if (pushed && version.compareAndSet(caughtUp, committedVersion))
+                return;
+
+            if (version.getAndAccumulate(committedVersion, Math::max) < caughtUp)
+                resync();
+        }
+
+        private void offer(TaskChangeDto change) {
+            if (!buffer.offer(change)) {
+                // Client can't keep up, what's buffered is useless once it reloads
+                buffer.clear();
+
+                if (resyncDue.compareAndSet(false, true))
+                    resyncs.increment();
+            }
+
+            schedule();
+        }
+
+        private void resync() {
+            resyncDue.set(true);
+            schedule();
+        }
+
+        private void heartbeat() {
+            heartbeatDue.set(true);
+            schedule();
+        }
+
+        private void schedule() {
+            if (closed || !sending.compareAndSet(false, true))
+                return;
+
+            try {
+                senders.execute(this::send);
+            } catch (RejectedExecutionException e) {
+                // Shutting down, the stream is about to end
+                sending.set(false);
+            }
+        }
+
+        private void send() {
+            try {
+                SseEmitter.SseEventBuilder event;
+
+                while (!closed && (event = next()) != null) {
+                    emitter.send(event);
+                    lastSentNanos = System.nanoTime();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away or the stream ended, the container completes the emitter
+                unsubscribe(this);
+            } finally {
+                sending.set(false);
+
+                // Something may have been buffered after the last check
+                if (!closed && (resyncDue.get() || !buffer.isEmpty() || heartbeatDue.get()))
+                    schedule();
+            }
+        }
+
+        private SseEmitter.SseEventBuilder next() {
+            if (resyncDue.getAndSet(false)) {
+                heartbeatDue.set(false);
+                return SseEmitter.event().id(nextId()).name(RESYNC).data(RESYNC);
+            }
+
+            TaskChangeDto change = buffer.poll();
+
+            if (change != null) {
+                heartbeatDue.set(false);
+                return SseEmitter.event().id(nextId()).name(change.type().name().toLowerCase()).data(change, MediaType.APPLICATION_JSON);
+            }
+
+            return heartbeatDue.getAndSet(false)? SseEmitter.event().comment("heartbeat"): null;
+        }
+
+        private String nextId() {
+            return Long.toString(eventIds.incrementAndGet());
+        }
+    }
+}
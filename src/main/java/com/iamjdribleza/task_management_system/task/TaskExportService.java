@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import com.iamjdribleza.task_management_system.enums.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+
+/**
+ * Task Export Service
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+public interface TaskExportService {
+    void exportTasks(ExportFormat format, LocalDate from, LocalDate to, OutputStream outputStream) throws IOException;
+}
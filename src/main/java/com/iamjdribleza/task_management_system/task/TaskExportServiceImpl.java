@@ -0,0 +1,390 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iamjdribleza.task_management_system.auth.AuthenticatedIdentity;
+import com.iamjdribleza.task_management_system.auth.AuthenticationService;
+import com.iamjdribleza.task_management_system.enums.ExportFormat;
+import com.iamjdribleza.task_management_system.enums.Priority;
+import com.iamjdribleza.task_management_system.exceptions.InvalidArgumentException;
+import com.iamjdribleza.task_management_system.util.CsvUtil;
+import com.iamjdribleza.task_management_system.util.DateUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Task Export Service implementation
+ * Streams user's tasks from a forward-only cursor straight to the response,
+ * memory used is the same no matter how many tasks are exported.
+ * Occurrences of recurring tasks are only expanded when a date range is exported, and computed as they are written.
+ * Archived tasks are merged in by event date, decompressing a single month of them at a time.
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+
+@Service
+public class TaskExportServiceImpl implements TaskExportService {
+
+    private static final String EXPORT_QUERY = """
+            select reference_id, description, event_date, priority, date_created,
+                   recurrence_frequency, recurrence_interval, recurrence_until
+            from task
+            where user_id = ? and deleted_at is null
+            order by event_date, id
+            """;
+
+    // Recurring tasks are exported as their occurrences instead
+    private static final String EXPORT_RANGE_QUERY = """
+            select reference_id, description, event_date, priority, date_created,
+                   recurrence_frequency, recurrence_interval, recurrence_until
+            from task
+            where user_id = ? and deleted_at is null and recurrence_frequency is null and event_date between ? and ?
+            order by event_date, id
+            """;
+
+    // Bounds of the archive when every task is exported
+    private static final LocalDate FIRST_DAY = LocalDate.of(1, 1, 1);
+    private static final LocalDate LAST_DAY = LocalDate.of(9999, 12, 31);
+
+    private static final String[] COLUMNS = {
+            "referenceId", "description", "eventDate", "priority", "dateCreated", "recurrence", "occurrenceDate"
+    };
+
+    private final AuthenticationService authenticationService;
+    private final TaskRepository taskRepository;
+    private final TaskOccurrenceExpander taskOccurrenceExpander;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxDays;
+
+    public TaskExportServiceImpl(AuthenticationService authenticationService,
+                                 TaskRepository taskRepository,
+                                 TaskOccurrenceExpander taskOccurrenceExpander,
+                                 ObjectMapper objectMapper,
+                                 DataSource dataSource,
+                                 @Value("${app.task-export.fetch-size:1000}") int fetchSize,
+                                 @Value("${app.task-export.max-days:3660}") int maxDays) {
+
+        this.authenticationService = authenticationService;
+        this.taskRepository = taskRepository;
+        this.taskOccurrenceExpander = taskOccurrenceExpander;
+        this.objectMapper = objectMapper;
+        this.maxDays = maxDays;
+
+        // Rows are fetched from the cursor in chunks instead of all at once
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    /**
+     * Exports tasks of the authenticated user.
+     * Runs in a read-only transaction since database cursors need auto-commit off.
+     *
+     * @param format Export format.
+     * @param from First day of the range, null to export every task as stored.
+     * @param to Last day of the range, null to export every task as stored.
+     * @param outputStream Stream the tasks are written to.
+     * @throws IOException if tasks can't be written to the stream.
+     * @throws InvalidArgumentException if only one end of the range is given, or range is reversed or longer than allowed.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public void exportTasks(ExportFormat format, LocalDate from, LocalDate to, OutputStream outputStream) throws IOException {
+        if ((from == null) != (to == null))
+            throw new InvalidArgumentException("Range needs both its start and its end");
+
+        if (from != null)
+            DateUtil.validateRange(from, to, maxDays);
+
+        AuthenticatedIdentity identity = authenticationService.getAuthenticatedIdentity();
+
+        RowWriter rowWriter = switch (format) {
+            case NDJSON -> new NdjsonRowWriter(objectMapper.getFactory().createGenerator(outputStream));
+            case CSV -> new CsvRowWriter(new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)));
+        };
+
+        try (rowWriter) {
+            if (from == null)
+                query(rowWriter, EXPORT_QUERY, archived(identity.userId(), FIRST_DAY, LAST_DAY), identity.userId());
+            else
+                query(rowWriter, EXPORT_RANGE_QUERY,
+                        new MergedRows(occurrences(identity.userId(), from, to), archived(identity.userId(), from, to)),
+                        identity.userId(), from, to);
+        }
+    }
+
+    /**
+     * Archived tasks ordered by event date, each month's segments are only read once the previous month was written.
+     */
+    private Iterator<ExportRow> archived(long userId, LocalDate from, LocalDate to) {
+        Iterator<LocalDate> months = taskRepository.findArchivedMonthsByUserIdAndDateRange(userId, from, to).iterator();
+
+        return new Iterator<>() {
+            private Iterator<ExportRow> rows = Collections.emptyIterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!rows.hasNext() && months.hasNext()) {
+                    LocalDate month = months.next();
+                    LocalDate monthEnd = month.withDayOfMonth(month.lengthOfMonth());
+
+                    rows = taskRepository.findArchivedViewsByUserIdAndDateRange(
+                                    userId, month.isBefore(from)? from: month, monthEnd.isAfter(to)? to: monthEnd).stream()
+                            .map(TaskExportServiceImpl::toExportRow)
+                            .iterator();
+                }
+
+                return rows.hasNext();
+            }
+
+            @Override
+            public ExportRow next() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+
+                return rows.next();
+            }
+        };
+    }
+
+    /**
+     * Occurrences ordered by event date, computed as they are written.
+     */
+    private Iterator<ExportRow> occurrences(long userId, LocalDate from, LocalDate to) {
+        return taskOccurrenceExpander.stream(userId, from, to)
+                .map(occurrence -> new ExportRow(
+                        occurrence.task().referenceId().toString(),
+                        occurrence.task().description(),
+                        occurrence.task().eventDate(),
+                        occurrence.task().priority().name(),
+                        occurrence.task().dateCreated(),
+                        occurrence.task().recurrence(),
+                        occurrence.occurrenceDate()
+                ))
+                .iterator();
+    }
+
+    /**
+     * Writes the cursor's rows, with the occurrences and archived tasks merged in by event date.
+     */
+    private void query(RowWriter rowWriter, String sql, Iterator<ExportRow> pendingOccurrences, Object... arguments) throws IOException {
+        ExportRow[] nextOccurrence = {pendingOccurrences.hasNext()? pendingOccurrences.next(): null};
+
+        try {
+            jdbcTemplate.query(sql, resultSet -> {
+                ExportRow row = toExportRow(resultSet);
+
+                while (nextOccurrence[0] != null && nextOccurrence[0].eventDate().isBefore(row.eventDate())) {
+                    writeUnchecked(rowWriter, nextOccurrence[0]);
+                    nextOccurrence[0] = pendingOccurrences.hasNext()? pendingOccurrences.next(): null;
+                }
+
+                writeUnchecked(rowWriter, row);
+            }, arguments);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        if (nextOccurrence[0] != null)
+            rowWriter.write(nextOccurrence[0]);
+
+        while (pendingOccurrences.hasNext())
+            rowWriter.write(pendingOccurrences.next());
+    }
+
+    private static void writeUnchecked(RowWriter rowWriter, ExportRow row) {
+        try {
+            rowWriter.write(row);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ExportRow toExportRow(TaskView task) {
+        return new ExportRow(
+                task.referenceId().toString(),
+                task.description(),
+                task.eventDate(),
+                task.priority().name(),
+                task.dateCreated(),
+                null,
+                null
+        );
+    }
+
+    private static ExportRow toExportRow(ResultSet resultSet) throws SQLException {
+        Timestamp dateCreated = resultSet.getTimestamp("date_created");
+
+        return new ExportRow(
+                resultSet.getString("reference_id"),
+                resultSet.getString("description"),
+                resultSet.getObject("event_date", LocalDate.class),
+                Priority.values()[resultSet.getInt("priority")].name(),
+                (dateCreated == null)? null: dateCreated.toLocalDateTime(),
+                Recurrence.of(
+                        resultSet.getString("recurrence_frequency"),
+                        resultSet.getObject("recurrence_interval", Integer.class),
+                        resultSet.getObject("recurrence_until", LocalDate.class)
+                ),
+                null
+        );
+    }
+
+    /**
+     * Single exported task or occurrence.
+     */
+    private record ExportRow(
+            String referenceId,
+            String description,
+            LocalDate eventDate,
+            String priority,
+            LocalDateTime dateCreated,
+            Recurrence recurrence,
+            LocalDate occurrenceDate
+    ) {}
+
+    /**
+     * Merges two iterators ordered by event date into one, the first one's rows come first on the same date.
+     */
+    private static final class MergedRows implements Iterator<ExportRow> {
+        private final Iterator<ExportRow> first;
+        private final Iterator<ExportRow> second;
+        private ExportRow nextFirst;
+        private ExportRow nextSecond;
+
+        private MergedRows(Iterator<ExportRow> first, Iterator<ExportRow> second) {
+            this.first = first;
+            this.second = second;
+            this.nextFirst = first.hasNext()? first.next(): null;
+            this.nextSecond = second.hasNext()? second.next(): null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextFirst != null || nextSecond != null;
+        }
+
+        @Override
+        public ExportRow next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            ExportRow row;
+
+            if (nextSecond == null || (nextFirst != null && !nextSecond.eventDate().isBefore(nextFirst.eventDate()))) {
+                row = nextFirst;
+                nextFirst = first.hasNext()? first.next(): null;
+            } else {
+                row = nextSecond;
+                nextSecond = second.hasNext()? second.next(): null;
+            }
+
+            return row;
+        }
+    }
+
+    private interface RowWriter extends Closeable {
+        void write(ExportRow row) throws IOException;
+    }
+
+    /**
+     * Writes one JSON object per line using Jackson's streaming generator.
+     */
+    private static final class NdjsonRowWriter implements RowWriter {
+        private final JsonGenerator generator;
+
+        private NdjsonRowWriter(JsonGenerator generator) {
+            this.generator = generator;
+
+            // Response stream is owned by the container
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        public void write(ExportRow row) throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField(COLUMNS[0], row.referenceId());
+            generator.writeStringField(COLUMNS[1], row.description());
+            generator.writeStringField(COLUMNS[2], row.eventDate().toString());
+            generator.writeStringField(COLUMNS[3], row.priority());
+            generator.writeStringField(COLUMNS[4], (row.dateCreated() == null)? "": row.dateCreated().toString());
+
+            if (row.recurrence() != null) {
+                generator.writeObjectFieldStart(COLUMNS[5]);
+                generator.writeStringField("frequency", row.recurrence().frequency().name());
+                generator.writeNumberField("interval", row.recurrence().interval());
+                generator.writeStringField("until", (row.recurrence().until() == null)? null: row.recurrence().until().toString());
+                generator.writeEndObject();
+            }
+
+            if (row.occurrenceDate() != null)
+                generator.writeStringField(COLUMNS[6], row.occurrenceDate().toString());
+
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    /**
+     * Writes a header line followed by one line per task, fields are quoted when needed.
+     * Recurrences are written as iCalendar-like rules.
+     */
+    private static final class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+
+        private CsvRowWriter(Writer writer) throws IOException {
+            this.writer = writer;
+
+            writer.write(String.join(",", COLUMNS));
+            writer.write('\n');
+        }
+
+        @Override
+        public void write(ExportRow row) throws IOException {
+            writer.write(row.referenceId());
+            writer.write(',');
+            writer.write(CsvUtil.escape(row.description()));
+            writer.write(',');
+            writer.write(row.eventDate().toString());
+            writer.write(',');
+            writer.write(row.priority());
+            writer.write(',');
+            writer.write((row.dateCreated() == null)? "": row.dateCreated().toString());
+            writer.write(',');
+            writer.write((row.recurrence() == null)? "": row.recurrence().toRule());
+            writer.write(',');
+            writer.write((row.occurrenceDate() == null)? "": row.occurrenceDate().toString());
+            writer.write('\n');
+        }
+
+        // Response stream is owned by the container, so it's only flushed
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+/**
+ * Stores why a row of an import was rejected.
+ *
+ * @param row row number, starting at 1 and not counting the CSV header
+ * @param message reason the row was rejected
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+public record TaskImportErrorDto(
+        long row,
+        String message
+) {}
@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import java.util.List;
+
+/**
+ * Stores the outcome of a task import.
+ *
+ * @param importedRows number of rows saved
+ * @param failedRows number of rows rejected
+ * @param nextRow rows up to this number are final, pass it as fromRow to resume an incomplete import
+ * @param completed true if the whole input was processed
+ * @param errors rejected rows, capped to keep the response bounded
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+public record TaskImportResultDto(
+        long importedRows,
+        long failedRows,
+        long nextRow,
+        boolean completed,
+        List<TaskImportErrorDto> errors
+) {}
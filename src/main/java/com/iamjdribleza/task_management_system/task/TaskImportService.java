@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import com.iamjdribleza.task_management_system.enums.ExportFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Task Import Service
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+public interface TaskImportService {
+    TaskImportResultDto importTasks(ExportFormat format, InputStream inputStream, long fromRow) throws IOException;
+}
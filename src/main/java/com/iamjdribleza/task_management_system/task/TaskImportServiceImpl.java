@@ -0,0 +1,350 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.iamjdribleza.task_management_system.auth.AuthenticatedIdentity;
+import com.iamjdribleza.task_management_system.auth.AuthenticationService;
+import com.iamjdribleza.task_management_system.enums.ExportFormat;
+import com.iamjdribleza.task_management_system.enums.Priority;
+import com.iamjdribleza.task_management_system.exceptions.InvalidArgumentException;
+import com.iamjdribleza.task_management_system.mapper.TaskMapper;
+import com.iamjdribleza.task_management_system.user.User;
+import com.iamjdribleza.task_management_system.util.CsvUtil;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Task Import Service implementation
+ * Parses uploads one row at a time and saves them in fixed-size chunks,
+ * each chunk in its own transaction so a failed import can be resumed.
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+
+@Service
+public class TaskImportServiceImpl implements TaskImportService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskImportServiceImpl.class);
+
+    // Keeps the response bounded on inputs with many bad rows
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final AuthenticationService authenticationService;
+    private final TaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectReader taskReader;
+    private final int chunkSize;
+
+    public TaskImportServiceImpl(AuthenticationService authenticationService,
+                                 TaskRepository taskRepository,
+                                 TaskMapper taskMapper,
+                                 Validator validator,
+                                 EntityManager entityManager,
+                                 ApplicationEventPublisher applicationEventPublisher,
+                                 PlatformTransactionManager transactionManager,
+                                 ObjectMapper objectMapper,
+                                 @Value("${app.task-import.chunk-size:500}") int chunkSize) {
+
+        this.authenticationService = authenticationService;
+        this.taskRepository = taskRepository;
+        this.taskMapper = taskMapper;
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.taskReader = objectMapper.readerFor(TaskDto.class);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Imports tasks for the authenticated user.
+     *
+     * @param format NDJSON, one task per line, or CSV with a header line.
+     * @param inputStream Uploaded tasks.
+     * @param fromRow Number of rows to skip, nextRow of an incomplete import.
+     * @return Outcome of the import with rejected rows, incomplete if the upload broke off after the header.
+     * @throws IOException if upload's header can't be read.
+     */
+    @Override
+    public TaskImportResultDto importTasks(ExportFormat format, InputStream inputStream, long fromRow) throws IOException {
+        AuthenticatedIdentity identity = authenticationService.getAuthenticatedIdentity();
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        RowReader rowReader = (format == ExportFormat.CSV)? csvRowReader(reader): ndjsonRowReader(reader);
+
+        ImportProgress progress = new ImportProgress(fromRow);
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+        long row = 0;
+
+        try {
+            ImportRow importRow;
+
+            while ((importRow = rowReader.next(row + 1)) != null) {
+                row = importRow.row();
+
+                if (row <= fromRow)
+                    continue;
+
+                String error = (importRow.error() != null)? importRow.error(): validate(importRow.task());
+
+                if (error != null) {
+                    progress.reject(row, error);
+                    continue;
+                }
+
+                chunk.add(importRow);
+
+                if (chunk.size() == chunkSize) {
+                    saveChunk(identity.userId(), chunk, progress);
+                    chunk.clear();
+                }
+            }
+
+            saveChunk(identity.userId(), chunk, progress);
+            progress.nextRow = Math.max(row, fromRow);
+            progress.completed = true;
+        } catch (RuntimeException | IOException e) {
+            // Rows after the last saved chunk can be imported again using nextRow, e.g. once an aborted upload is sent again
+            LOGGER.warn("Import stopped after row {}", progress.nextRow, e);
+            progress.errors.add(new TaskImportErrorDto(row, "Import stopped: " + e.getMessage()));
+        }
+
+        return progress.toResult();
+    }
+
+    /**
+     * Saves a chunk of rows in its own transaction.
+     * Persistence context is flushed as JDBC batches and cleared, so memory doesn't grow with the input.
+     * Chunk's outcome is only added to the progress once it's committed, a chunk that fails to commit counts nothing.
+     * Rows reusing a reference id, of an earlier row or of a saved task, are rejected.
+     */
+    private void saveChunk(long userId, List<ImportRow> chunk, ImportProgress progress) {
+        if (chunk.isEmpty())
+            return;
+
+        ImportProgress chunkProgress = transactionTemplate.execute(status -> {
+            ImportProgress saved = new ImportProgress(progress.nextRow);
+
+            Set<UUID> referenceIds = chunk.stream()
+                    .map(importRow -> importRow.task().referenceId())
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+
+            // Reference ids already saved, e.g. by a previous attempt of the same import, deleted tasks included
+            Set<UUID> takenReferenceIds = referenceIds.isEmpty()?
+                    new HashSet<>():
+                    findTakenReferenceIds(referenceIds);
+
+            User user = entityManager.getReference(User.class, userId);
+            List<TaskView> importedTasks = new ArrayList<>(chunk.size());
+
+            for (ImportRow importRow : chunk) {
+                TaskDto taskDto = importRow.task();
+
+                // Colliding rows are rejected one by one, a unique violation would roll back the whole chunk
+                if (taskDto.referenceId() != null && !takenReferenceIds.add(taskDto.referenceId())) {
+                    saved.reject(importRow.row(), "Task already exists");
+                    continue;
+                }
+
+                Task task = taskMapper.toTask(taskDto);
+                task.setReferenceId(Objects.requireNonNullElseGet(taskDto.referenceId(), UUID::randomUUID));
+                task.setUser(user);
+
+                entityManager.persist(task);
+                saved.importedRows++;
+
+                importedTasks.add(TaskView.of(task));
+            }
+
+            entityManager.flush();
+            entityManager.clear();
+
+            // A single event for the chunk, listeners would otherwise be called once per row
+            if (!importedTasks.isEmpty())
+                applicationEventPublisher.publishEvent(new TasksImportedEvent(userId, importedTasks));
+
+            return saved;
+        });
+
+        progress.add(chunkProgress);
+        progress.nextRow = chunk.getLast().row();
+    }
+
+    /**
+     * Finds reference ids held by saved tasks, deleted tasks included.
+     * Deleted tasks keep their reference ids until they're purged, so the query is native to bypass the restriction on deleted_at.
+     */
+    private Set<UUID> findTakenReferenceIds(Set<UUID> referenceIds) {
+        List<UUID> taken = entityManager.unwrap(Session.class)
+                .createNativeQuery("select t.reference_id from task t where t.reference_id in (:referenceIds)", UUID.class)
+                .setParameter("referenceIds", referenceIds)
+                .getResultList();
+
+        return new HashSet<>(taken);
+    }
+
+    /**
+     * Validates a row using TaskDto's constraints.
+     *
+     * @param taskDto Parsed row.
+     * @return First violation's message, null if row is valid.
+     */
+    private String validate(TaskDto taskDto) {
+        Set<ConstraintViolation<TaskDto>> violations = validator.validate(taskDto);
+
+        if (!violations.isEmpty())
+            return violations.iterator().next().getMessage();
+
+        // Column is required even though the dto allows it to be absent
+        if (taskDto.priority() == null)
+            return "Blank priority";
+
+        return null;
+    }
+
+    private RowReader ndjsonRowReader(BufferedReader reader) {
+        return row -> {
+            String line;
+
+            // Blank lines are skipped without being counted
+            do {
+                line = reader.readLine();
+            } while (line != null && line.isBlank());
+
+            if (line == null)
+                return null;
+
+            try {
+                return new ImportRow(row, taskReader.readValue(line), null);
+            } catch (JsonProcessingException e) {
+                return new ImportRow(row, null, "Malformed JSON: " + e.getOriginalMessage());
+            }
+        };
+    }
+
+    private RowReader csvRowReader(BufferedReader reader) throws IOException {
+        List<String> header = CsvUtil.readRecord(reader);
+
+        if (header == null)
+            return row -> null;
+
+        int referenceIdColumn = header.indexOf("referenceId");
+        int descriptionColumn = header.indexOf("description");
+        int eventDateColumn = header.indexOf("eventDate");
+        int priorityColumn = header.indexOf("priority");
+        int recurrenceColumn = header.indexOf("recurrence");
+
+        if (descriptionColumn < 0 || eventDateColumn < 0 || priorityColumn < 0)
+            throw new InvalidArgumentException("CSV header must have description, eventDate and priority");
+
+        return row -> {
+            List<String> fields = CsvUtil.readRecord(reader);
+
+            if (fields == null)
+                return null;
+
+            try {
+                TaskDto taskDto = new TaskDto(
+                        blankToNull(field(fields, referenceIdColumn), UUID::fromString),
+                        field(fields, descriptionColumn),
+                        blankToNull(field(fields, eventDateColumn), LocalDate::parse),
+                        null,
+                        blankToNull(field(fields, priorityColumn), Priority::valueOf),
+                        Recurrence.parse(field(fields, recurrenceColumn)),
+                        null
+                );
+
+                return new ImportRow(row, taskDto, null);
+            } catch (RuntimeException e) {
+                return new ImportRow(row, null, "Malformed row: " + e.getMessage());
+            }
+        };
+    }
+
+    private static String field(List<String> fields, int column) {
+        return (column < 0 || column >= fields.size())? null: fields.get(column);
+    }
+
+    private static <T> T blankToNull(String value, java.util.function.Function<String, T> parser) {
+        return (value == null || value.isBlank())? null: parser.apply(value.trim());
+    }
+
+    /**
+     * Reads the next row of an upload.
+     */
+    @FunctionalInterface
+    private interface RowReader {
+        ImportRow next(long row) throws IOException;
+    }
+
+    /**
+     * A parsed row, either a task or the reason it couldn't be parsed.
+     */
+    private record ImportRow(long row, TaskDto task, String error) {}
+
+    /**
+     * Counters of an import in progress.
+     */
+    private static final class ImportProgress {
+        private long importedRows;
+        private long failedRows;
+        private long nextRow;
+        private boolean completed;
+        private final List<TaskImportErrorDto> errors = new ArrayList<>();
+
+        private ImportProgress(long fromRow) {
+            this.nextRow = fromRow;
+        }
+
+        private void reject(long row, String message) {
+            failedRows++;
+
+            if (errors.size() < MAX_REPORTED_ERRORS)
+                errors.add(new TaskImportErrorDto(row, message));
+        }
+
+        private void add(ImportProgress chunkProgress) {
+            importedRows += chunkProgress.importedRows;
+            failedRows += chunkProgress.failedRows;
+
+            chunkProgress.errors.stream()
+                    .limit(Math.max(0, MAX_REPORTED_ERRORS - errors.size()))
+                    .forEach(errors::add);
+        }
+
+        private TaskImportResultDto toResult() {
+            return new TaskImportResultDto(importedRows, failedRows, nextRow, completed, errors);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import java.util.List;
+
+/**
+ * Published by TaskVersions once a transaction writing a user's tasks has committed, once for every user it wrote.
+ * Published after the commit, so listeners use @EventListener. Events of different transactions may be received
+ * out of order, a gap in versions means a write this node didn't see.
+ *
+ * @param userId owner's id
+ * @param version version of the user's task lists the transaction committed
+ * @param writes writes of the user's tasks, in the order they were published
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+public record TaskListChangedEvent(
+        long userId,
+        long version,
+        List<TaskWrite> writes
+) {}
@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import java.time.LocalDate;
+
+/**
+ * Single occurrence of a recurring task, expanded for a date range.
+ *
+ * @param task recurring task with the occurrence's date and overrides applied
+ * @param occurrenceDate date the occurrence falls on by the task's recurrence
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+public record TaskOccurrence(
+        TaskView task,
+        LocalDate occurrenceDate
+) {}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import com.iamjdribleza.task_management_system.enums.Priority;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Expands recurring tasks into their occurrences within a date range.
+ * Occurrences are computed from each task's recurrence and only overridden occurrences are read from the database,
+ * so the cost depends on the range and the number of recurring tasks, not on how long they have been repeating.
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+
+@RequiredArgsConstructor
+
+@Component
+public class TaskOccurrenceExpander {
+
+    private static final Comparator<TaskOccurrence> BY_EVENT_DATE = Comparator.comparing(occurrence -> occurrence.task().eventDate());
+
+    private final TaskRepository taskRepository;
+    private final TaskOccurrenceOverrideRepository taskOccurrenceOverrideRepository;
+
+    /**
+     * Expands user's recurring tasks within a date range.
+     * Cancelled occurrences are left out, moved occurrences are placed on the date they are moved to.
+     *
+     * @param userId Owner's id.
+     * @param from First day of the range.
+     * @param to Last day of the range.
+     * @return Occurrences whose event date falls within the range, ordered by event date.
+     */
+    public List<TaskOccurrence> expand(long userId, LocalDate from, LocalDate to) {
+        return stream(userId, from, to).toList();
+    }
+
+    /**
+     * Expands user's recurring tasks within a date range, computing occurrences as they are consumed.
+     * Only the next occurrence of every series is held, so memory depends on the number of series, not on the range.
+     *
+     * @param userId Owner's id.
+     * @param from First day of the range.
+     * @param to Last day of the range.
+     * @return Occurrences whose event date falls within the range, ordered by event date.
+     */
+    public Stream<TaskOccurrence> stream(long userId, LocalDate from, LocalDate to) {
+        List<TaskView> recurringTasks = taskRepository.findRecurringViewsByUserIdAndDateRange(userId, from, to);
+        List<TaskOccurrenceOverrideView> overrides = taskOccurrenceOverrideRepository.findViewsByUserIdAndDateRange(userId, from, to);
+
+        if (recurringTasks.isEmpty() && overrides.isEmpty())
+            return Stream.empty();
+
+        Map<Long, Map<LocalDate, TaskOccurrenceOverrideView>> overridesByTask = new HashMap<>();
+        for (TaskOccurrenceOverrideView override : overrides)
+            overridesByTask.computeIfAbsent(override.taskId(), key -> new HashMap<>()).put(override.occurrenceDate(), override);
+
+        // Occurrences can be moved into the range from tasks that otherwise have none in it
+        Set<Long> missingTaskIds = new HashSet<>(overridesByTask.keySet());
+        recurringTasks.forEach(task -> missingTaskIds.remove(task.id()));
+
+        if (!missingTaskIds.isEmpty()) {
+            recurringTasks = new ArrayList<>(recurringTasks);
+            recurringTasks.addAll(taskRepository.findRecurringViewsByIdIn(missingTaskIds));
+        }
+
+        List<Iterator<TaskOccurrence>> series = new ArrayList<>();
+        List<TaskOccurrence> overridden = new ArrayList<>();
+
+        for (TaskView task : recurringTasks) {
+            Map<LocalDate, TaskOccurrenceOverrideView> taskOverrides = overridesByTask.getOrDefault(task.id(), Map.of());
+
+            // Overridden occurrences can be moved out of the series' order, so they're merged in separately
+            series.add(task.recurrence().occurrences(task.eventDate(), from, to)
+                    .filter(occurrenceDate -> !taskOverrides.containsKey(occurrenceDate))
+                    .map(occurrenceDate -> new TaskOccurrence(withOccurrence(task, occurrenceDate, task.description(), task.priority()), occurrenceDate))
+                    .iterator());
+
+            for (TaskOccurrenceOverrideView override : taskOverrides.values()) {
+                if (task.recurrence().occursOn(task.eventDate(), override.occurrenceDate()))
+                    addOverriddenOccurrence(overridden, task, override, from, to);
+            }
+        }
+
+        overridden.sort(BY_EVENT_DATE);
+        series.add(overridden.iterator());
+
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(new MergedOccurrences(series), Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    private static void addOverriddenOccurrence(List<TaskOccurrence> occurrences,
+                                                TaskView task,
+                                                TaskOccurrenceOverrideView override,
+                                                LocalDate from,
+                                                LocalDate to) {
+
+        LocalDate eventDate = Objects.requireNonNullElse(override.eventDate(), override.occurrenceDate());
+
+        if (override.cancelled() || eventDate.isBefore(from) || eventDate.isAfter(to))
+            return;
+
+        TaskView occurrence = withOccurrence(
+                task,
+                eventDate,
+                Objects.requireNonNullElse(override.description(), task.description()),
+                Objects.requireNonNullElse(override.priority(), task.priority())
+        );
+
+        occurrences.add(new TaskOccurrence(occurrence, override.occurrenceDate()));
+    }
+
+    private static TaskView withOccurrence(TaskView task, LocalDate eventDate, String description, Priority priority) {
+        return new TaskView(
+                task.id(),
+                task.referenceId(),
+                description,
+                eventDate,
+                priority,
+                task.dateCreated(),
+                task.dateUpdated(),
+                task.userId(),
+                task.recurrence(),
+                task.version()
+        );
+    }
+
+    /**
+     * Merges iterators ordered by event date into one, a heap holds the next occurrence of each of them.
+     */
+    private static final class MergedOccurrences implements Iterator<TaskOccurrence> {
+        private final PriorityQueue<Head> heads = new PriorityQueue<>(Comparator.comparing(Head::occurrence, BY_EVENT_DATE));
+
+        private MergedOccurrences(List<Iterator<TaskOccurrence>> iterators) {
+            iterators.forEach(this::push);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !heads.isEmpty();
+        }
+
+        @Override
+        public TaskOccurrence next() {
+            Head head = heads.poll();
+
+            if (head == null)
+                throw new NoSuchElementException();
+
+            push(head.rest());
+
+            return head.occurrence();
+        }
+
+        private void push(Iterator<TaskOccurrence> iterator) {
+            if (iterator.hasNext())
+                heads.add(new Head(iterator.next(), iterator));
+        }
+
+        private record Head(TaskOccurrence occurrence, Iterator<TaskOccurrence> rest) {}
+    }
+}
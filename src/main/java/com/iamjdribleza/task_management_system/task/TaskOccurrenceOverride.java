@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+
+import com.iamjdribleza.task_management_system.enums.Priority;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDate;
+
+/**
+ * Entity for a change to a single occurrence of a recurring task.
+ * Only changed occurrences have a row, every other occurrence follows the task.
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Setter
+@Getter
+
+@Entity
+@Table(
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_task_occurrence_override_task_occurrence_date",
+                columnNames = {"task_id", "occurrence_date"}
+        ),
+        indexes = {
+                // Finds occurrences moved into a date range
+                @Index(name = "idx_task_occurrence_override_event_date", columnList = "event_date")
+        }
+)
+public class TaskOccurrenceOverride {
+
+    @Id
+    @SequenceGenerator(
+            name = "task_occurrence_override_seq_gen",
+            sequenceName = "task_occurrence_override_seq",
+            allocationSize = 50
+    )
+    @GeneratedValue(
+            strategy = GenerationType.SEQUENCE,
+            generator = "task_occurrence_override_seq_gen"
+    )
+    private long id;
+
+
+    // Removed by the database with its task, tasks are deleted with set-based queries
+    @ManyToOne(
+            fetch = FetchType.LAZY,
+            optional = false
+    )
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JoinColumn(
+            name = "task_id",
+            referencedColumnName = "id"
+    )
+    private Task task;
+
+
+    // Date the occurrence falls on by the task's recurrence
+    @Column(nullable = false)
+    private LocalDate occurrenceDate;
+
+
+    // Occurrence is skipped
+    @Column(nullable = false)
+    private boolean cancelled;
+
+
+    // Replacements of the task's details, null keeps the task's value
+    @Column(columnDefinition = "text")
+    private String description;
+
+    private LocalDate eventDate;
+
+    private Priority priority;
+}
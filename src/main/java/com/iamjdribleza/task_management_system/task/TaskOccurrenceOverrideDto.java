@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import com.iamjdribleza.task_management_system.enums.Priority;
+
+import java.time.LocalDate;
+
+/**
+ * Stores changes to a single occurrence of a recurring task.
+ *
+ * @param cancelled true to skip the occurrence
+ * @param description replacement of the task's details, null keeps the task's value
+ * @param eventDate date the occurrence is moved to, null keeps the occurrence's date
+ * @param priority replacement of the task's priority, null keeps the task's value
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+public record TaskOccurrenceOverrideDto(
+        boolean cancelled,
+        String description,
+        LocalDate eventDate,
+        Priority priority
+) {}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Task Occurrence Override Repository
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+public interface TaskOccurrenceOverrideRepository extends JpaRepository<TaskOccurrenceOverride, Long> {
+    Optional<TaskOccurrenceOverride> findByTaskIdAndOccurrenceDate(long taskId, LocalDate occurrenceDate);
+
+    // Overrides of occurrences falling on or moved into a date range
+    @Query("""
+            select new com.iamjdribleza.task_management_system.task.TaskOccurrenceOverrideView(
+                o.task.id, o.occurrenceDate, o.cancelled, o.description, o.eventDate, o.priority)
+            from TaskOccurrenceOverride o
+            where o.task.user.id = :userId
+              and (o.occurrenceDate between :from and :to or o.eventDate between :from and :to)
+            """)
+    List<TaskOccurrenceOverrideView> findViewsByUserIdAndDateRange(long userId, LocalDate from, LocalDate to);
+
+    @Modifying
+    @Query("delete from TaskOccurrenceOverride o where o.task.id = :taskId and o.occurrenceDate = :occurrenceDate")
+    int deleteByTaskIdAndOccurrenceDate(long taskId, LocalDate occurrenceDate);
+}
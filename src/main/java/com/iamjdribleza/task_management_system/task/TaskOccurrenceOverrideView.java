@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import com.iamjdribleza.task_management_system.enums.Priority;
+
+import java.time.LocalDate;
+
+/**
+ * Read-only projection of an occurrence's override.
+ *
+ * @param taskId recurring task's id
+ * @param occurrenceDate date the occurrence falls on by the task's recurrence
+ * @param cancelled true if the occurrence is skipped
+ * @param description replacement of the task's details, null if unchanged
+ * @param eventDate date the occurrence is moved to, null if unchanged
+ * @param priority replacement of the task's priority, null if unchanged
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+public record TaskOccurrenceOverrideView(
+        long taskId,
+        LocalDate occurrenceDate,
+        boolean cancelled,
+        String description,
+        LocalDate eventDate,
+        Priority priority
+) {}
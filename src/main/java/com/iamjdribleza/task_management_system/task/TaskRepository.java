@@ -6,12 +6,17 @@
 
 package com.iamjdribleza.task_management_system.task;
 
-import com.iamjdribleza.task_management_system.user.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -21,7 +26,147 @@ import java.util.UUID;
  * @author iamjdribleza
  * @version 1.0
  */
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskArchiveRepository {
     Optional<Task> findByReferenceId(UUID referenceId);
-    Page<Task> findByUserAndEventDate(User user, Pageable pageable, LocalDate today);
-}
\ No newline at end of file
+    Page<Task> findByUserIdAndEventDate(long userId, Pageable pageable, LocalDate today);
+
+    // Read-only projections, no entity is hydrated
+    // Tasks occurring once on a date, occurrences of recurring tasks are expanded separately
+    @Query("""
+            select new com.iamjdribleza.task_management_system.task.TaskView(
+                t.id, t.referenceId, t.description, t.eventDate, t.priority, t.dateCreated, t.dateUpdated, t.user.id, t.recurrence, t.version)
+            from Task t
+            where t.user.id = :userId and t.eventDate = :eventDate and t.recurrence.frequency is null
+            """)
+    List<TaskView> findViewsByUserIdAndEventDate(long userId, LocalDate eventDate);
+
+    @Query(value = """
+            select new com.iamjdribleza.task_management_system.task.TaskView(
+                t.id, t.referenceId, t.description, t.eventDate, t.priority, t.dateCreated, t.dateUpdated, t.user.id, t.recurrence, t.version)
+            from Task t
+            where t.user.id = :userId
+            """,
+            countQuery = "select count(t) from Task t where t.user.id = :userId")
+    Page<TaskView> findViewsByUserId(long userId, Pageable pageable);
+
+    @Query("""
+            select new com.iamjdribleza.task_management_system.task.TaskView(
+                t.id, t.referenceId, t.description, t.eventDate, t.priority, t.dateCreated, t.dateUpdated, t.user.id, t.recurrence, t.version)
+            from Task t
+            where t.referenceId = :referenceId and t.user.id = :userId
+            """)
+    Optional<TaskView> findViewByReferenceIdAndUserId(UUID referenceId, long userId);
+
+    @Query("""
+            select new com.iamjdribleza.task_management_system.task.TaskView(
+                t.id, t.referenceId, t.description, t.eventDate, t.priority, t.dateCreated, t.dateUpdated, t.user.id, t.recurrence, t.version)
+            from Task t
+            where t.referenceId = :referenceId
+            """)
+    Optional<TaskView> findViewByReferenceId(UUID referenceId);
+
+    // Entity tag of a task without hydrating it
+    @Query("select t.version from Task t where t.referenceId = :referenceId and t.user.id = :userId")
+    Optional<Long> findVersionByReferenceIdAndUserId(UUID referenceId, long userId);
+
+    // Recurring tasks that can have occurrences within a date range
+    @Query("""
+            select new com.iamjdribleza.task_management_system.task.TaskView(
+                t.id, t.referenceId, t.description, t.eventDate, t.priority, t.dateCreated, t.dateUpdated, t.user.id, t.recurrence, t.version)
+            from Task t
+            where t.user.id = :userId
+              and t.recurrence.frequency is not null
+              and t.eventDate <= :to
+              and (t.recurrence.until is null or t.recurrence.until >= :from)
+            """)
+    List<TaskView> findRecurringViewsByUserIdAndDateRange(long userId, LocalDate from, LocalDate to);
+
+    @Query("""
+            select new com.iamjdribleza.task_management_system.task.TaskView(
+                t.id, t.referenceId, t.description, t.eventDate, t.priority, t.dateCreated, t.dateUpdated, t.user.id, t.recurrence, t.version)
+            from Task t
+            where t.id in :ids and t.recurrence.frequency is not null
+            """)
+    List<TaskView> findRecurringViewsByIdIn(Collection<Long> ids);
+
+    // Ownership-scoped operations, a task that isn't owned by the user is treated as not found
+    Optional<Task> findByReferenceIdAndUserId(UUID referenceId, long userId);
+
+    // Slot a task is counted in before it's written, locked until the write commits
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select new com.iamjdribleza.task_management_system.task.TaskSlot(t.referenceId, t.eventDate, t.priority, t.recurrence)
+            from Task t
+            where t.referenceId = :referenceId and t.user.id = :userId
+            """)
+    Optional<TaskSlot> findSlotByReferenceIdAndUserId(UUID referenceId, long userId);
+
+    boolean existsByReferenceIdAndUserId(UUID referenceId, long userId);
+
+    @Query("select t.version from Task t where t.referenceId = :referenceId")
+    Optional<Long> findVersionByReferenceId(UUID referenceId);
+
+    // Versioned like Hibernate's own updates, a null version updates whatever version is current
+    @Modifying
+    @Query("""
+            update Task t
+            set t.description = :description, t.version = t.version + 1, t.dateUpdated = local datetime
+            where t.referenceId = :referenceId and t.user.id = :userId
+              and (:version is null or t.version = :version)
+            """)
+    int updateDescriptionByReferenceIdAndUserId(UUID referenceId, long userId, String description, Long version);
+
+    // Deletes are tombstones, rows are removed later by the purge job
+    @Modifying
+    @Query("update Task t set t.deletedAt = local datetime where t.referenceId = :referenceId and t.user.id = :userId")
+    int tombstoneByReferenceIdAndUserId(UUID referenceId, long userId);
+
+    // Set-based operations for bulk requests
+    List<Task> findByReferenceIdInAndUserId(Collection<UUID> referenceIds, long userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select new com.iamjdribleza.task_management_system.task.TaskSlot(t.referenceId, t.eventDate, t.priority, t.recurrence)
+            from Task t
+            where t.referenceId in :referenceIds and t.user.id = :userId
+            """)
+    List<TaskSlot> findSlotsByReferenceIdInAndUserId(Collection<UUID> referenceIds, long userId);
+
+    @Query("select t.referenceId from Task t where t.referenceId in :referenceIds")
+    List<UUID> findReferenceIdsByReferenceIdIn(Collection<UUID> referenceIds);
+
+    @Modifying
+    @Query("update Task t set t.deletedAt = local datetime where t.referenceId in :referenceIds and t.user.id = :userId")
+    int tombstoneByReferenceIdInAndUserId(Collection<UUID> referenceIds, long userId);
+
+    // Calendar counters of a user's tasks occurring once, one row per day and priority
+    @Query("""
+            select new com.iamjdribleza.task_management_system.task.TaskDayCount(t.eventDate, t.priority, count(t))
+            from Task t
+            where t.user.id = :userId and t.recurrence.frequency is null
+            group by t.eventDate, t.priority
+            """)
+    List<TaskDayCount> countByUserIdGroupByEventDateAndPriority(long userId);
+
+    // Keyset pagination, seeks past the cursor using idx_task_user_event_date_priority_id
+    @Query(nativeQuery = true, value = """
+            select * from task t
+            where t.user_id = :userId
+              and t.deleted_at is null
+              and (t.event_date, t.priority, t.id) < (:eventDate, :priority, :id)
+            order by t.event_date desc, t.priority desc, t.id desc
+            limit :limit
+            """)
+    List<Task> findSliceByUserId(long userId, LocalDate eventDate, int priority, long id, int limit);
+
+    @Query(nativeQuery = true, value = """
+            select * from task t
+            where t.user_id = :userId
+              and t.event_date = :eventDate
+              and t.deleted_at is null
+              and (t.priority, t.id) < (:priority, :id)
+            order by t.priority desc, t.id desc
+            limit :limit
+            """)
+    List<Task> findSliceByUserIdAndEventDate(long userId, LocalDate eventDate, int priority, long id, int limit);
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.iamjdribleza.task_management_system.enums.Priority;
+import com.iamjdribleza.task_management_system.enums.TaskEventType;
+import com.iamjdribleza.task_management_system.user.UserDeletedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * In-process full-text index of task descriptions, one inverted index per user.
+ * A user's index is loaded from the database on the user's first search, then kept up to date with committed task writes.
+ * Indexes are kept for a bounded number of users, the least recently used are evicted.
+ *
+ * Indexes are local to the node. Every index is tagged with the version of the user's lists it holds,
+ * and is only searched at the version read from the database, so a write committed by another node makes it load again.
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+
+@Component
+public class TaskSearchIndex {
+
+    private static final String VERSION_QUERY = "select tasks_version from app_user where id = ?";
+
+    private static final String LOAD_QUERY = """
+            select id, reference_id, description, event_date, priority, date_created, date_updated, user_id,
+                   recurrence_frequency, recurrence_interval, recurrence_until, version
+            from task
+            where user_id = ? and deleted_at is null
+            """;
+
+    private final Cache<Long, UserTaskIndex> indexes;
+    private final TaskRepository taskRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public TaskSearchIndex(TaskRepository taskRepository,
+                           DataSource dataSource,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${app.task-search.maximum-users:10000}") long maximumUsers,
+                           @Value("${app.task-search.fetch-size:1000}") int fetchSize,
+                           MeterRegistry meterRegistry) {
+
+        this.taskRepository = taskRepository;
+
+        this.indexes = Caffeine.newBuilder()
+                .maximumSize(maximumUsers)
+                .recordStats()
+                .build();
+
+        // Export hit, miss and eviction counters
+        CaffeineCacheMetrics.monitor(meterRegistry, indexes, "task.search");
+
+        // Rows are read from a cursor, a user's tasks are never loaded at once
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Searches user's tasks, loads the user's index if it isn't resident at the version.
+     *
+     * @param userId Owner's id.
+     * @param version Version of the user's lists, read before calling.
+     * @param query Words to be searched, each one matched as a prefix.
+     * @param offset Number of ranked tasks to skip.
+     * @param limit Maximum number of tasks returned.
+     * @return Total number of matched tasks and the requested page of them.
+     */
+    public UserTaskIndex.SearchResult search(long userId, long version, String query, int offset, int limit) {
+        UserTaskIndex index = indexes.getIfPresent(userId);
+
+        if (index == null || index.version() != version)
+            index = load(userId);
+
+        return index.search(UserTaskIndex.tokenize(query), offset, limit);
+    }
+
+    /**
+     * Applies the writes of a committed transaction to the owner's index, if the index is at the version just before it.
+     * An index at an older version missed writes of another node, and is dropped.
+     * Updates that didn't load the task read its committed state.
+     *
+     * @param event Committed writes of a user's tasks.
+     */
+    @EventListener
+    public void onTaskListChanged(TaskListChangedEvent event) {
+        UserTaskIndex index = indexes.getIfPresent(event.userId());
+
+        // Cold users are indexed on their next search, indexes loaded after the commit hold the writes already
+        if (index == null || index.version() >= event.version())
+            return;
+
+        Map<UUID, Optional<TaskView>> readTasks = new HashMap<>();
+
+        for (TaskWrite write : event.writes()) {
+            if (write instanceof TaskChangedEvent changed && changed.task() == null
+                    && (changed.type() == TaskEventType.CREATED || changed.type() == TaskEventType.UPDATED))
+                readTasks.put(changed.referenceId(), taskRepository.findViewByReferenceId(changed.referenceId()));
+        }
+
+        boolean advanced = index.advance(event.version(), advancing -> {
+            for (TaskWrite write : event.writes()) {
+                switch (write) {
+                    case TaskChangedEvent changed -> apply(advancing, changed, readTasks);
+                    case TasksImportedEvent imported -> imported.tasks().forEach(advancing::put);
+                }
+            }
+        });
+
+        if (!advanced)
+            indexes.asMap().remove(event.userId(), index);
+    }
+
+    /**
+     * Drops a deleted user's index once the deletion is committed.
+     *
+     * @param event Committed user deletion.
+     */
+    @TransactionalEventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        indexes.invalidate(event.userId());
+    }
+
+    private static void apply(UserTaskIndex index, TaskChangedEvent event, Map<UUID, Optional<TaskView>> readTasks) {
+        switch (event.type()) {
+            case CREATED, UPDATED -> {
+                Optional<TaskView> task = (event.task() != null)? Optional.of(event.task()): readTasks.get(event.referenceId());
+
+                if (task.isPresent())
+                    index.put(task.get());
+                else
+                    index.remove(event.referenceId());
+            }
+            case DELETED, ARCHIVED -> index.remove(event.referenceId());
+        }
+    }
+
+    /**
+     * Indexes every task of a user.
+     * The version is read before the tasks, so a write committed during the load makes the index load again,
+     * and tasks read from a replica are tagged with the version the replica is at.
+     */
+    private UserTaskIndex load(long userId) {
+        UserTaskIndex loaded = transactionTemplate.execute(status -> {
+            Long version = jdbcTemplate.queryForObject(VERSION_QUERY, Long.class, userId);
+            UserTaskIndex index = new UserTaskIndex((version == null)? 0: version);
+
+            jdbcTemplate.query(LOAD_QUERY, resultSet -> {
+                index.put(toTaskView(resultSet));
+            }, userId);
+
+            return index;
+        });
+
+        // Loads and writes racing this one may have left a more recent index
+        indexes.asMap().merge(userId, loaded, (kept, candidate) -> (kept.version() > candidate.version())? kept: candidate);
+
+        return loaded;
+    }
+
+    private static TaskView toTaskView(ResultSet resultSet) throws SQLException {
+        return new TaskView(
+                resultSet.getLong("id"),
+                resultSet.getObject("reference_id", UUID.class),
+                resultSet.getString("description"),
+                resultSet.getObject("event_date", LocalDate.class),
+                Priority.values()[resultSet.getInt("priority")],
+                toLocalDateTime(resultSet.getTimestamp("date_created")),
+                toLocalDateTime(resultSet.getTimestamp("date_updated")),
+                resultSet.getLong("user_id"),
+                Recurrence.of(
+                        resultSet.getString("recurrence_frequency"),
+                        resultSet.getObject("recurrence_interval", Integer.class),
+                        resultSet.getObject("recurrence_until", LocalDate.class)
+                ),
+                resultSet.getLong("version")
+        );
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null? null: timestamp.toLocalDateTime();
+    }
+}
@@ -6,9 +6,13 @@
 
 package com.iamjdribleza.task_management_system.task;
 
+import com.iamjdribleza.task_management_system.api.CursorPage;
+import com.iamjdribleza.task_management_system.api.Versioned;
 import org.springframework.data.domain.Page;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -19,9 +23,20 @@ import java.util.UUID;
  */
 public interface TaskService {
     Page<TaskDto> getAllTasks();
-    Page<TaskDto> getTodaysTasks(String token, int pageOffset);
-    String createTask(String token, TaskDto taskDto);
-    TaskDto getTask(UUID refId);
-    void updateTask(UUID refId, TaskDto taskDto);
+    Versioned<Page<TaskDto>> getTodaysTasks(int pageOffset, long version);
+    String getTodaysTasksETag(int pageOffset, long version);
+    long getTasksVersion();
+    Page<TaskDto> searchTasks(String query, int pageOffset);
+    List<TaskCalendarDayDto> getCalendar(LocalDate from, LocalDate to);
+    List<TaskDto> getArchivedTasks(LocalDate from, LocalDate to);
+    CursorPage<TaskDto> scrollTasks(String cursor);
+    CursorPage<TaskDto> scrollTodaysTasks(String cursor);
+    String createTask(TaskDto taskDto);
+    Versioned<TaskDto> getTask(UUID refId, long version);
+    Optional<Long> findTaskVersion(UUID refId);
+    String updateTask(UUID refId, TaskDto taskDto, Long expectedVersion);
     void deleteTask(UUID refId);
+    void overrideOccurrence(UUID refId, LocalDate occurrenceDate, TaskOccurrenceOverrideDto overrideDto);
+    void restoreOccurrence(UUID refId, LocalDate occurrenceDate);
+    List<BulkTaskResultDto> bulkTasks(BulkTaskRequestDto bulkTaskRequestDto);
 }
\ No newline at end of file
@@ -6,22 +6,39 @@
 
 package com.iamjdribleza.task_management_system.task;
 
+import com.iamjdribleza.task_management_system.api.CursorPage;
+import com.iamjdribleza.task_management_system.api.Versioned;
+import com.iamjdribleza.task_management_system.auth.AuthenticatedIdentity;
 import com.iamjdribleza.task_management_system.auth.AuthenticationService;
-import com.iamjdribleza.task_management_system.exceptions.PermissionDeniedException;
+import com.iamjdribleza.task_management_system.enums.BulkItemStatus;
+import com.iamjdribleza.task_management_system.enums.BulkOperation;
+import com.iamjdribleza.task_management_system.enums.TaskEventType;
+import com.iamjdribleza.task_management_system.exceptions.InvalidArgumentException;
+import com.iamjdribleza.task_management_system.exceptions.PreconditionFailedException;
 import com.iamjdribleza.task_management_system.exceptions.ResourceNotFoundException;
 import com.iamjdribleza.task_management_system.mapper.TaskMapper;
 import com.iamjdribleza.task_management_system.user.User;
+import com.iamjdribleza.task_management_system.user.UserRepository;
+import com.iamjdribleza.task_management_system.util.DateUtil;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDate;
-import java.util.UUID;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Task Service implementation
@@ -38,25 +55,80 @@ public class TaskServiceImpl implements TaskService {
     private final TaskRepository taskRepository;
     private final AuthenticationService authenticationService;
     private final TaskMapper taskMapper;
-    private final JwtDecoder jwtDecoder;
+    private final UserRepository userRepository;
+    private final TaskCache taskCache;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TaskSearchIndex taskSearchIndex;
+    private final TaskCalendar taskCalendar;
+    private final TaskOccurrenceExpander taskOccurrenceExpander;
+    private final TaskOccurrenceOverrideRepository taskOccurrenceOverrideRepository;
+    private final TaskVersions taskVersions;
+    private final TaskTodayIndex taskTodayIndex;
+    private final Validator validator;
+
+    private static final int PAGE_SIZE = 10;
+
+    @Value("${app.task-calendar.max-days:366}")
+    private int calendarMaxDays;
 
     /**
-     * Retrieves all tasks for the current date.
+     * Retrieves all tasks for the current date, including today's occurrences of recurring tasks.
+     * A single day of tasks is small, so tasks are merged and paged in memory, highest priority first.
      *
      * @param pageOffset Page offset.
-     * @return Task's details page.
+     * @param version Version of the user's lists, read by getTasksVersion.
+     * @return Task's details page with its entity tag.
      */
+    @Transactional(readOnly = true)
     @Override
-    public Page<TaskDto> getTodaysTasks(String token, int pageOffset) {
+    public Versioned<Page<TaskDto>> getTodaysTasks(int pageOffset, long version) {
 
         // Get authenticated user
-        User user = authenticationService.getAuthenticatedUser();
+        AuthenticatedIdentity identity = authenticationService.getAuthenticatedIdentity();
         LocalDate today = LocalDate.now();
 
-        Pageable pageable = PageRequest.of(pageOffset, 10);
-        Page<Task> todaysTasks = taskRepository.findByUserAndEventDate(user, pageable, today);
+        // Read from the database only when user's day isn't resident at the version
+        TaskTodayIndex.TodaysTasks resident = taskTodayIndex.get(identity.userId(), today, version);
 
-        return todaysTasks.map(taskMapper::toDto);
+        // Tagged with the version the day was read at, a lagging replica gives an older day with its older tag
+        String eTag = TaskVersions.userETag(resident.version(), todaysTasksRepresentation(today, pageOffset));
+
+        List<TaskDto> todaysTasks = new ArrayList<>();
+        resident.tasks().values().forEach(task -> todaysTasks.add(taskMapper.toDto(task)));
+        resident.occurrences().forEach(occurrence -> todaysTasks.add(taskMapper.toDto(occurrence)));
+
+        todaysTasks.sort(Comparator.comparing(TaskDto::priority, Comparator.nullsLast(Comparator.reverseOrder())));
+
+        Pageable pageable = PageRequest.of(pageOffset, PAGE_SIZE);
+        int start = (int) Math.min(pageable.getOffset(), todaysTasks.size());
+        int end = Math.min(start + PAGE_SIZE, todaysTasks.size());
+
+        return new Versioned<>(new PageImpl<>(todaysTasks.subList(start, end), pageable, todaysTasks.size()), eTag, null);
+    }
+
+    /**
+     * Gets the entity tag of a page of today's tasks without reading any task.
+     *
+     * @param pageOffset Page offset.
+     * @param version Version of the user's lists, read by getTasksVersion.
+     * @return Strong entity tag, without quotes.
+     */
+    @Override
+    public String getTodaysTasksETag(int pageOffset, long version) {
+        return TaskVersions.userETag(version, todaysTasksRepresentation(LocalDate.now(), pageOffset));
+    }
+
+    /**
+     * Reads the committed version of the authenticated user's task lists from the primary.
+     * The only query of a conditional read whose tag still matches, or whose lists are resident at the version.
+     *
+     * @return Version of the lists, advanced by every committed write of the user's tasks.
+     */
+    @Override
+    public long getTasksVersion() {
+        AuthenticatedIdentity identity = authenticationService.getAuthenticatedIdentity();
+
+        return taskVersions.userVersion(identity.userId());
     }
 
     /**
@@ -64,36 +136,161 @@ public class TaskServiceImpl implements TaskService {
      *
      * @return Pages of all tasks for logged-in user.
      */
+    @Transactional(readOnly = true)
     @Override
     public Page<TaskDto> getAllTasks() {
-        Pageable pageable = PageRequest.of(0, 10, Sort.by("date").descending());
+        AuthenticatedIdentity identity = authenticationService.getAuthenticatedIdentity();
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE, Sort.by("eventDate").descending());
+
+        return taskRepository.findViewsByUserId(identity.userId(), pageable).map(taskMapper::toDto);
+    }
+
+    /**
+     * Searches user's task descriptions, ranked by relevance.
+     * Served from the in-process search index, only the version of the user's lists is read from the database.
+     *
+     * @param query Words to be searched, each one matched as a prefix.
+     * @param pageOffset Page offset.
+     * @return Matched task's details page.
+     */
+    @Override
+    public Page<TaskDto> searchTasks(String query, int pageOffset) {
+        if (query == null || query.isBlank())
+            throw new InvalidArgumentException("Blank search query");
+
+        if (pageOffset < 0)
+            throw new InvalidArgumentException("Negative page offset");
+
+        AuthenticatedIdentity identity = authenticationService.getAuthenticatedIdentity();
+        Pageable pageable = PageRequest.of(pageOffset, PAGE_SIZE);
+
+        UserTaskIndex.SearchResult result = taskSearchIndex.search(identity.userId(), taskVersions.userVersion(identity.userId()),
+                query, (int) pageable.getOffset(), pageable.getPageSize());
+
+        return new PageImpl<>(result.tasks(), pageable, result.total()).map(taskMapper::toDto);
+    }
+
+    /**
+     * Counts user's tasks by priority on every day of a date range, e.g. a month or week of a calendar.
+     * Served from counters kept up to date with task writes, each day costs a single lookup.
+     *
+     * @param from First day of the range.
+     * @param to Last day of the range.
+     * @return Number of tasks by priority for every day of the range.
+     * @throws InvalidArgumentException if range is reversed or longer than allowed.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public List<TaskCalendarDayDto> getCalendar(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+
+        AuthenticatedIdentity identity = authenticationService.getAuthenticatedIdentity();
+
+        // Taken before the read, so a write committed during it makes the counters load again
+        long version = taskVersions.userVersion(identity.userId());
+
+        return taskCalendar.countByDay(identity.userId(), version, from, to, taskOccurrenceExpander.expand(identity.userId(), from, to));
+    }
+
+    /**
+     * Retrieves user's archived tasks within a date range.
+     * Archived tasks are read from compressed segments, so this is slower than reading live tasks.
+     *
+     * @param from First day of the range.
+     * @param to Last day of the range.
+     * @return Archived tasks' details, ordered by event date.
+     * @throws InvalidArgumentException if range is reversed or longer than allowed.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public List<TaskDto> getArchivedTasks(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+
+        AuthenticatedIdentity identity = authenticationService.getAuthenticatedIdentity();
+
+        return taskRepository.findArchivedViewsByUserIdAndDateRange(identity.userId(), from, to).stream()
+                .map(taskMapper::toDto)
+                .toList();
+    }
+
+    /**
+     * Retrieves a slice of user's tasks after the cursor.
+     * Seeks the index instead of skipping rows, so every slice costs the same.
+     *
+     * @param cursor Cursor of the previous slice, null for the first slice.
+     * @return Task's details slice with the next cursor.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPage<TaskDto> scrollTasks(String cursor) {
+        AuthenticatedIdentity identity = authenticationService.getAuthenticatedIdentity();
+        TaskCursor after = TaskCursor.decode(cursor);
+
+        // Fetch one more task to know if there is a next slice
+        List<Task> tasks = taskRepository.findSliceByUserId(
+                identity.userId(), after.eventDate(), after.priority(), after.id(), PAGE_SIZE + 1);
+
+        return toCursorPage(tasks);
+    }
+
+    /**
+     * Retrieves a slice of user's tasks for the current date after the cursor.
+     *
+     * @param cursor Cursor of the previous slice, null for the first slice.
+     * @return Task's details slice with the next cursor.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPage<TaskDto> scrollTodaysTasks(String cursor) {
+        AuthenticatedIdentity identity = authenticationService.getAuthenticatedIdentity();
+        TaskCursor after = TaskCursor.decode(cursor);
+
+        // Fetch one more task to know if there is a next slice
+        List<Task> tasks = taskRepository.findSliceByUserIdAndEventDate(
+                identity.userId(), LocalDate.now(), after.priority(), after.id(), PAGE_SIZE + 1);
 
-        return taskRepository.findAll(pageable).map(taskMapper::toDto);
+        return toCursorPage(tasks);
     }
 
     /**
      * Gets a task using reference id.
+     * Served from the cache if it holds the task at the version, otherwise read from the database.
      *
      * @param refId Task's reference id.
-     * @return Task's details.
-     * @throws ResourceNotFoundException if task is not found.
+     * @param version Task's committed version, read by findTaskVersion.
+     * @return Task's details with its entity tag and last update.
+     * @throws ResourceNotFoundException if task is not found or not owned by the user.
      */
+    @Transactional(readOnly = true)
     @Override
-    public TaskDto getTask(UUID refId) {
+    public Versioned<TaskDto> getTask(UUID refId, long version) {
 
         // Get authenticated user
-        User user = authenticationService.getAuthenticatedUser();
+        AuthenticatedIdentity identity = authenticationService.getAuthenticatedIdentity();
 
-        // Retrieve task
-        Task task = taskRepository.findByReferenceId(refId)
+        // Retrieve task from cache, owner's id is cached with the task
+        TaskView task = taskCache.get(refId, version, key -> taskRepository.findViewByReferenceId(key).orElse(null))
+                .filter(taskView -> taskView.userId() == identity.userId())
                 .orElseThrow(() -> new ResourceNotFoundException("refId"));
 
-        // Check if user has permission to access the task
-        if (!userHasPermission(task))
-            // Throw AccessDeniedException
-            throw new PermissionDeniedException("Permission denied");
+        // Tagged with the version read, a replica behind it gives an older task with its older tag
+        String eTag = TaskVersions.taskETag(task.version());
+        Instant lastModified = (task.dateUpdated() == null)? null: task.dateUpdated().atZone(ZoneId.systemDefault()).toInstant();
 
-        return taskMapper.toDto(task);
+        return new Versioned<>(taskMapper.toDto(task), eTag, lastModified);
+    }
+
+    /**
+     * Gets the committed version of a task without reading it.
+     *
+     * @param refId Task's reference id.
+     * @return Task's version, empty if the task doesn't exist or isn't owned by the user.
+     */
+    @Override
+    public Optional<Long> findTaskVersion(UUID refId) {
+        AuthenticatedIdentity identity = authenticationService.getAuthenticatedIdentity();
+
+        return taskVersions.findTaskVersion(identity.userId(), refId);
     }
 
     /**
@@ -105,83 +302,423 @@ public class TaskServiceImpl implements TaskService {
      */
     @Transactional
     @Override
-    public String createTask(String token, TaskDto taskDto) {
+    public String createTask(TaskDto taskDto) {
         Task task = taskMapper.toTask(taskDto);
 
         // Set reference id
         task.setReferenceId(UUID.randomUUID());
 
         // Get authenticated user
-        User user = authenticationService.getAuthenticatedUser();
+        AuthenticatedIdentity identity = authenticationService.getAuthenticatedIdentity();
 
-        // Set user to task
-        task.setUser(user);
+        // Set user to task, a reference is enough since only its id is written
+        task.setUser(userRepository.getReferenceById(identity.userId()));
 
         Task savedTask = taskRepository.save(task);
 
+        publishTaskChanged(TaskEventType.CREATED, savedTask, null);
+
         // Return task's reference id
         return savedTask.getReferenceId().toString();
     }
 
     /**
-     * Updates a task using reference id and saves to database.
+     * Updates the supplied fields of a task, the others are kept.
+     * A description-only change runs a single update scoped to the owner without loading the task.
+     * Other changes load the task, so listeners get the slot it's moved from, and only write the changed columns.
+     * Either way the task's version is checked and incremented by the update itself.
      *
      * @param refId Task's reference id.
-     * @param taskDto Task's new details to replace the existing data.
-     * @throws ResourceNotFoundException if task is not found.
+     * @param taskDto Task's changes, null fields are kept and an empty recurrence makes the task occur once.
+     * @param expectedVersion Version the changes are based on, null to update whatever version is current.
+     * @return Task's entity tag after the update, without quotes.
+     * @throws ResourceNotFoundException if task is not found or not owned by the user.
+     * @throws PreconditionFailedException if task's version isn't the expected one.
      */
     @Transactional
     @Override
-    public void updateTask(UUID refId, TaskDto taskDto) {
-        Task task = taskRepository.findByReferenceId(refId)
+    public String updateTask(UUID refId, TaskDto taskDto, Long expectedVersion) {
+        AuthenticatedIdentity identity = authenticationService.getAuthenticatedIdentity();
+        validateChanges(taskDto);
+
+        // Description doesn't move the task, so its slot isn't needed
+        if (taskDto.description() != null && taskDto.eventDate() == null && taskDto.priority() == null && taskDto.recurrence() == null)
+            return updateDescription(identity.userId(), refId, taskDto.description(), expectedVersion);
+
+        Task task = taskRepository.findByReferenceIdAndUserId(refId, identity.userId())
                 .orElseThrow(() -> new ResourceNotFoundException("refId"));
 
-        // Check if user has permission to delete a task
-        if (!userHasPermission(task))
-            // Throw AccessDeniedException
-            throw new PermissionDeniedException("Permission denied");
+        if (expectedVersion != null && task.getVersion() != expectedVersion)
+            throw new PreconditionFailedException("Task was changed since it was read");
+
+        TaskSlot previous = TaskSlot.of(task);
+
+        if (!applyChanges(task, taskDto))
+            return TaskVersions.taskETag(task.getVersion());
 
-        task.setDescription(taskDto.description());
-        task.setEventDate(taskDto.eventDate());
-        task.setPriority(taskDto.priority());
+        // Flushed now so listeners get the version it was written with, a concurrent write fails it
+        taskRepository.flush();
+        publishTaskChanged(TaskEventType.UPDATED, task, previous);
 
-        taskRepository.save(task);
+        return TaskVersions.taskETag(task.getVersion());
     }
 
     /**
-     * Deletes a task using reference id from the database.
+     * Deletes a task using reference id.
+     * Runs a single tombstone update scoped to the owner without loading the task,
+     * only the task's calendar slot is selected. The row is removed later by the purge job.
      *
      * @param refId Task's reference id.
-     * @throws ResourceNotFoundException if task is not found.
+     * @throws ResourceNotFoundException if task is not found or not owned by the user.
      */
     @Transactional
     @Override
     public void deleteTask(UUID refId) {
+        AuthenticatedIdentity identity = authenticationService.getAuthenticatedIdentity();
 
-        Task task = taskRepository.findByReferenceId(refId)
+        TaskSlot previous = taskRepository.findSlotByReferenceIdAndUserId(refId, identity.userId())
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
 
-        // Check if user has permission to delete a task
-        if (!userHasPermission(task))
-            // Throw AccessDeniedException
-            throw new PermissionDeniedException("Permission denied");
+        taskRepository.tombstoneByReferenceIdAndUserId(refId, identity.userId());
+
+        applicationEventPublisher.publishEvent(
+                new TaskChangedEvent(TaskEventType.DELETED, identity.userId(), refId, null, previous, null, 0));
+    }
+
+    /**
+     * Changes or cancels a single occurrence of a recurring task.
+     * Only the occurrence's override is stored, every other occurrence keeps following the task.
+     *
+     * @param refId Recurring task's reference id.
+     * @param occurrenceDate Date the occurrence falls on by the task's recurrence.
+     * @param overrideDto Occurrence's changes.
+     * @throws ResourceNotFoundException if task is not found or not owned by the user.
+     * @throws InvalidArgumentException if task has no occurrence on the date.
+     */
+    @Transactional
+    @Override
+    public void overrideOccurrence(UUID refId, LocalDate occurrenceDate, TaskOccurrenceOverrideDto overrideDto) {
+        Task task = findOwnedOccurrence(refId, occurrenceDate);
+
+        TaskOccurrenceOverride override = taskOccurrenceOverrideRepository.findByTaskIdAndOccurrenceDate(task.getId(), occurrenceDate)
+                .orElseGet(TaskOccurrenceOverride::new);
+
+        override.setTask(task);
+        override.setOccurrenceDate(occurrenceDate);
+        override.setCancelled(overrideDto.cancelled());
+        override.setDescription(overrideDto.description());
+        override.setEventDate(overrideDto.eventDate());
+        override.setPriority(overrideDto.priority());
+
+        taskOccurrenceOverrideRepository.save(override);
+
+        publishTaskChanged(TaskEventType.UPDATED, task, TaskSlot.of(task));
+    }
+
+    /**
+     * Removes an occurrence's override, so it follows the recurring task again.
+     *
+     * @param refId Recurring task's reference id.
+     * @param occurrenceDate Date the occurrence falls on by the task's recurrence.
+     * @throws ResourceNotFoundException if task or override is not found, or task is not owned by the user.
+     */
+    @Transactional
+    @Override
+    public void restoreOccurrence(UUID refId, LocalDate occurrenceDate) {
+        AuthenticatedIdentity identity = authenticationService.getAuthenticatedIdentity();
+
+        Task task = taskRepository.findByReferenceIdAndUserId(refId, identity.userId())
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
+
+        if (taskOccurrenceOverrideRepository.deleteByTaskIdAndOccurrenceDate(task.getId(), occurrenceDate) == 0)
+            throw new ResourceNotFoundException("Occurrence override not found");
+
+        publishTaskChanged(TaskEventType.UPDATED, task, TaskSlot.of(task));
+    }
+
+    /**
+     * Creates, updates and deletes many tasks in a single transaction.
+     * Authenticated user is resolved once and writes are sent to the database in batches.
+     * Every item is validated before anything is written, invalid items are reported without failing the others.
+     *
+     * @param bulkTaskRequestDto Tasks to be created, updated and deleted.
+     * @return Outcome of every item, in request order: creates, updates then deletes.
+     */
+    @Transactional
+    @Override
+    public List<BulkTaskResultDto> bulkTasks(BulkTaskRequestDto bulkTaskRequestDto) {
+        List<TaskDto> creates = Objects.requireNonNullElse(bulkTaskRequestDto.create(), List.of());
+        List<TaskDto> updates = Objects.requireNonNullElse(bulkTaskRequestDto.update(), List.of());
+
+        Set<TaskDto> invalidCreates = creates.stream()
+                .filter(taskDto -> findViolation(taskDto) != null)
+                .collect(Collectors.toSet());
+
+        Set<TaskDto> invalidUpdates = updates.stream()
+                .filter(taskDto -> findChangesViolation(taskDto) != null)
+                .collect(Collectors.toSet());
+
+        AuthenticatedIdentity identity = authenticationService.getAuthenticatedIdentity();
+        User user = userRepository.getReferenceById(identity.userId());
+
+        List<BulkTaskResultDto> results = new ArrayList<>();
+
+        // Creates, inserted in batches with pooled ids
+        List<Task> newTasks = creates.stream()
+                .filter(taskDto -> !invalidCreates.contains(taskDto))
+                .map(taskDto -> {
+                    Task task = taskMapper.toTask(taskDto);
+                    task.setReferenceId(UUID.randomUUID());
+                    task.setUser(user);
+                    return task;
+                })
+                .toList();
+
+        Iterator<Task> savedTasks = taskRepository.saveAll(newTasks).iterator();
+
+        for (TaskDto taskDto : creates) {
+            if (invalidCreates.contains(taskDto)) {
+                results.add(new BulkTaskResultDto(BulkOperation.CREATE, null, BulkItemStatus.INVALID));
+                continue;
+            }
+
+            Task task = savedTasks.next();
+            publishTaskChanged(TaskEventType.CREATED, task, null);
+            results.add(new BulkTaskResultDto(BulkOperation.CREATE, task.getReferenceId(), BulkItemStatus.CREATED));
+        }
+
+        // Updates, owned tasks are loaded in one query and flushed in batches on commit
+        Set<UUID> updateReferenceIds = updates.stream()
+                .filter(taskDto -> !invalidUpdates.contains(taskDto))
+                .map(TaskDto::referenceId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        Map<UUID, Task> ownedTasks = updateReferenceIds.isEmpty()?
+                Map.of():
+                taskRepository.findByReferenceIdInAndUserId(updateReferenceIds, identity.userId()).stream()
+                        .collect(Collectors.toMap(Task::getReferenceId, Function.identity()));
+
+        Set<UUID> missingUpdates = new HashSet<>(updateReferenceIds);
+        missingUpdates.removeAll(ownedTasks.keySet());
+        Set<UUID> deniedUpdates = existingReferenceIds(missingUpdates);
+
+        Map<Task, TaskSlot> updatedTasks = new LinkedHashMap<>();
+
+        for (TaskDto taskDto : updates) {
+            if (invalidUpdates.contains(taskDto)) {
+                results.add(new BulkTaskResultDto(BulkOperation.UPDATE, taskDto.referenceId(), BulkItemStatus.INVALID));
+                continue;
+            }
+
+            Task task = ownedTasks.get(taskDto.referenceId());
+
+            if (task != null) {
+                updatedTasks.putIfAbsent(task, TaskSlot.of(task));
+                applyChanges(task, taskDto);
+            }
+
+            results.add(new BulkTaskResultDto(
+                    BulkOperation.UPDATE,
+                    taskDto.referenceId(),
+                    itemStatus(taskDto.referenceId(), task != null, deniedUpdates, BulkItemStatus.UPDATED)
+            ));
+        }
+
+        // Flushed now so listeners get the versions the updates were written with
+        if (!updatedTasks.isEmpty()) {
+            taskRepository.flush();
+            updatedTasks.forEach((task, previous) -> publishTaskChanged(TaskEventType.UPDATED, task, previous));
+        }
+
+        // Deletes, a single set-based tombstone update scoped to the owner
+        List<UUID> deletes = Objects.requireNonNullElse(bulkTaskRequestDto.delete(), List.of());
+        Set<UUID> deleteReferenceIds = deletes.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        List<TaskSlot> ownedSlots = deleteReferenceIds.isEmpty()?
+                List.of():
+                taskRepository.findSlotsByReferenceIdInAndUserId(deleteReferenceIds, identity.userId());
+
+        Set<UUID> ownedDeletes = ownedSlots.stream()
+                .map(TaskSlot::referenceId)
+                .collect(Collectors.toSet());
+
+        if (!ownedDeletes.isEmpty())
+            taskRepository.tombstoneByReferenceIdInAndUserId(ownedDeletes, identity.userId());
+
+        ownedSlots.forEach(slot -> applicationEventPublisher.publishEvent(
+                new TaskChangedEvent(TaskEventType.DELETED, identity.userId(), slot.referenceId(), null, slot, null, 0)));
+
+        Set<UUID> missingDeletes = new HashSet<>(deleteReferenceIds);
+        missingDeletes.removeAll(ownedDeletes);
+        Set<UUID> deniedDeletes = existingReferenceIds(missingDeletes);
+
+        for (UUID referenceId : deletes)
+            results.add(new BulkTaskResultDto(
+                    BulkOperation.DELETE,
+                    referenceId,
+                    itemStatus(referenceId, ownedDeletes.contains(referenceId), deniedDeletes, BulkItemStatus.DELETED)
+            ));
+
+        return results;
+    }
+
+    /**
+     * Publishes a task change, listeners receive it once the transaction commits.
+     *
+     * @param type Kind of change.
+     * @param task Task's new state.
+     * @param previous Task's slot before the change, null for creates.
+     */
+    private void publishTaskChanged(TaskEventType type, Task task, TaskSlot previous) {
+        TaskView taskView = TaskView.of(task);
+
+        applicationEventPublisher.publishEvent(new TaskChangedEvent(
+                type, taskView.userId(), taskView.referenceId(), taskView, previous, TaskSlot.of(task), taskView.version()));
+    }
+
+    private String updateDescription(long userId, UUID refId, String description, Long expectedVersion) {
+        if (taskRepository.updateDescriptionByReferenceIdAndUserId(refId, userId, description, expectedVersion) == 0) {
+            if (!taskRepository.existsByReferenceIdAndUserId(refId, userId))
+                throw new ResourceNotFoundException("refId");
+
+            throw new PreconditionFailedException("Task was changed since it was read");
+        }
+
+        // Row stays locked by the update until commit, so its version can't move in between
+        long version = (expectedVersion != null)?
+                expectedVersion + 1:
+                taskRepository.findVersionByReferenceId(refId).orElseThrow();
+
+        // Task isn't loaded and its slot is kept, so listeners only get its reference id and version
+        applicationEventPublisher.publishEvent(
+                new TaskChangedEvent(TaskEventType.UPDATED, userId, refId, null, null, null, version));
+
+        return TaskVersions.taskETag(version);
+    }
+
+    private static void validateChanges(TaskDto taskDto) {
+        String violation = findChangesViolation(taskDto);
+
+        if (violation != null)
+            throw new InvalidArgumentException(violation);
+    }
+
+    /**
+     * Checks the supplied fields of a task's changes.
+     *
+     * @param taskDto Task's changes.
+     * @return First violation's message, null if the changes are valid.
+     */
+    private static String findChangesViolation(TaskDto taskDto) {
+        if (taskDto.description() != null && taskDto.description().isBlank())
+            return "Blank description";
+
+        if (taskDto.recurrence() != null && taskDto.recurrence().interval() < 1)
+            return "Recurrence interval must be at least 1";
+
+        return null;
+    }
+
+    /**
+     * Checks a task to be created using TaskDto's constraints.
+     *
+     * @param taskDto Task to be created.
+     * @return First violation's message, null if the task is valid.
+     */
+    private String findViolation(TaskDto taskDto) {
+        Set<ConstraintViolation<TaskDto>> violations = validator.validate(taskDto);
+
+        if (!violations.isEmpty())
+            return violations.iterator().next().getMessage();
+
+        // Column is required even though the dto allows it to be absent
+        if (taskDto.priority() == null)
+            return "Blank priority";
+
+        return null;
+    }
+
+    /**
+     * Sets the supplied fields of a task, Hibernate only writes the columns that changed.
+     *
+     * @param task Managed task.
+     * @param taskDto Task's changes, null fields are kept and an empty recurrence makes the task occur once.
+     * @return True if any field was supplied.
+     */
+    private static boolean applyChanges(Task task, TaskDto taskDto) {
+        if (taskDto.description() != null)
+            task.setDescription(taskDto.description());
+
+        if (taskDto.eventDate() != null)
+            task.setEventDate(taskDto.eventDate());
+
+        if (taskDto.priority() != null)
+            task.setPriority(taskDto.priority());
+
+        if (taskDto.recurrence() != null)
+            task.setRecurrence((taskDto.recurrence().frequency() == null)? null: taskDto.recurrence());
+
+        return taskDto.description() != null || taskDto.eventDate() != null
+                || taskDto.priority() != null || taskDto.recurrence() != null;
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        DateUtil.validateRange(from, to, calendarMaxDays);
+    }
+
+    private static String todaysTasksRepresentation(LocalDate today, int pageOffset) {
+        return "today-" + today + "-" + pageOffset;
+    }
+
+    /**
+     * Finds a recurring task of the authenticated user that occurs on a date.
+     */
+    private Task findOwnedOccurrence(UUID refId, LocalDate occurrenceDate) {
+        AuthenticatedIdentity identity = authenticationService.getAuthenticatedIdentity();
+
+        Task task = taskRepository.findByReferenceIdAndUserId(refId, identity.userId())
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
+
+        if (task.getRecurrence() == null || !task.getRecurrence().occursOn(task.getEventDate(), occurrenceDate))
+            throw new InvalidArgumentException("Task has no occurrence on " + occurrenceDate);
+
+        return task;
+    }
+
+    /**
+     * Finds which of the given tasks exist regardless of their owner.
+     *
+     * @param referenceIds Task's reference ids that the user doesn't own.
+     * @return Reference ids of tasks that belong to another user.
+     */
+    private Set<UUID> existingReferenceIds(Set<UUID> referenceIds) {
+        return referenceIds.isEmpty()?
+                Set.of():
+                new HashSet<>(taskRepository.findReferenceIdsByReferenceIdIn(referenceIds));
+    }
+
+    private static BulkItemStatus itemStatus(UUID referenceId, boolean applied, Set<UUID> denied, BulkItemStatus success) {
+        if (referenceId == null) return BulkItemStatus.INVALID;
+        if (applied) return success;
 
-        taskRepository.delete(task);
+        return denied.contains(referenceId)? BulkItemStatus.PERMISSION_DENIED: BulkItemStatus.NOT_FOUND;
     }
 
     /**
-     * Compares task user's reference id and authenticated user's reference id
+     * Maps a slice of tasks fetched with one extra row into a cursor page.
      *
-     * @param task To get user's reference
-     * @return true if user is the owner of the task, false otherwise
+     * @param tasks Tasks of the slice plus possibly the first task of the next slice.
+     * @return Task's details slice with the next cursor.
      */
-    private boolean userHasPermission(Task task){
-        // Authenticated user
-        User user = authenticationService.getAuthenticatedUser();
+    private CursorPage<TaskDto> toCursorPage(List<Task> tasks) {
+        boolean hasNext = tasks.size() > PAGE_SIZE;
+        List<Task> slice = hasNext? tasks.subList(0, PAGE_SIZE): tasks;
 
-        // Get task user's reference id
-        UUID taskUserReferenceId = task.getUser().getReferenceId();
+        String next = hasNext? TaskCursor.of(slice.get(PAGE_SIZE - 1)).encode(): null;
 
-        return user.getReferenceId().equals(taskUserReferenceId);
+        return new CursorPage<>(slice.stream().map(taskMapper::toDto).toList(), next);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import com.iamjdribleza.task_management_system.enums.Priority;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Calendar slot a task is counted in.
+ *
+ * @param referenceId task's reference id
+ * @param eventDate task's date occurs
+ * @param priority task's priority
+ * @param recurrence task's recurrence, null for tasks that occur once
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+public record TaskSlot(
+        UUID referenceId,
+        LocalDate eventDate,
+        Priority priority,
+        Recurrence recurrence
+) {
+
+    /**
+     * Creates a slot from a task entity.
+     *
+     * @param task Task to be counted.
+     * @return Task's slot.
+     */
+    public static TaskSlot of(Task task) {
+        return new TaskSlot(task.getReferenceId(), task.getEventDate(), task.getPriority(), task.getRecurrence());
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.iamjdribleza.task_management_system.user.UserDeletedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-process index of users' tasks on the current day, for a bounded number of users, the least recently used are evicted.
+ * A user's day is loaded on first read, then kept up to date with task writes committed by this node instead of being read again.
+ * A day that rolled over is loaded again on the user's next read.
+ * Writes to recurring tasks and their occurrences drop the user's day, it's expanded again on the next read.
+ *
+ * The index is local to the node. Every day is tagged with the version of the user's lists it holds,
+ * and is only served at the version read from the database, so a write committed by another node makes it load again.
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+
+@Component
+public class TaskTodayIndex {
+
+    private final Cache<Long, TodaysTasks> entries;
+    private final TaskRepository taskRepository;
+    private final TaskOccurrenceExpander taskOccurrenceExpander;
+    private final TaskVersions taskVersions;
+
+    public TaskTodayIndex(TaskRepository taskRepository,
+                          TaskOccurrenceExpander taskOccurrenceExpander,
+                          TaskVersions taskVersions,
+                          @Value("${app.task-today.maximum-users:10000}") long maximumUsers,
+                          MeterRegistry meterRegistry) {
+
+        this.taskRepository = taskRepository;
+        this.taskOccurrenceExpander = taskOccurrenceExpander;
+        this.taskVersions = taskVersions;
+
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maximumUsers)
+                .recordStats()
+                .build();
+
+        // Export hit, miss and eviction counters
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, "task.today");
+    }
+
+    /**
+     * Gets user's tasks on a day, reads them from the database if the user's day isn't resident at the version.
+     * A day read from the database is tagged with the version read along with it in the caller's transaction,
+     * which is older than the one asked for if the transaction reads a lagging replica.
+     *
+     * @param userId Owner's id.
+     * @param date Current day.
+     * @param version Version of the user's lists, read from the primary before calling.
+     * @return Tasks and occurrences of recurring tasks on the day, tagged with the version they're at.
+     */
+    public TodaysTasks get(long userId, LocalDate date, long version) {
+        TodaysTasks resident = entries.getIfPresent(userId);
+
+        if (resident != null && resident.date().equals(date) && resident.version() == version)
+            return resident;
+
+        // Read before the day, so a write committed during the read makes it load again
+        TodaysTasks loaded = new TodaysTasks(
+                date,
+                taskVersions.userVersion(userId),
+                taskRepository.findViewsByUserIdAndEventDate(userId, date).stream()
+                        .collect(Collectors.toMap(TaskView::referenceId, Function.identity())),
+                taskOccurrenceExpander.expand(userId, date, date)
+        );
+
+        // Loads and writes racing this one may have left a more recent day
+        entries.asMap().merge(userId, loaded, (kept, candidate) ->
+                (kept.date().equals(candidate.date()) && kept.version() > candidate.version())? kept: candidate);
+
+        return loaded;
+    }
+
+    /**
+     * Applies the writes of a committed transaction to the owner's day, if the day is at the version just before it.
+     * A day at an older version missed writes of another node, and is dropped.
+     * Updates that didn't load the task read its committed state, only if it's on the owner's day.
+     *
+     * @param event Committed writes of a user's tasks.
+     */
+    @EventListener
+    public void onTaskListChanged(TaskListChangedEvent event) {
+        TodaysTasks resident = entries.getIfPresent(event.userId());
+
+        if (resident == null || resident.version() >= event.version())
+            return;
+
+        Map<UUID, TaskView> readTasks = new HashMap<>();
+
+        if (resident.version() == event.version() - 1) {
+            for (TaskWrite write : event.writes()) {
+                if (write instanceof TaskChangedEvent changed && changed.task() == null && changed.version() != 0
+                        && resident.tasks().containsKey(changed.referenceId()))
+                    taskRepository.findViewByReferenceId(changed.referenceId())
+                            .ifPresent(task -> readTasks.put(task.referenceId(), task));
+            }
+        }
+
+        entries.asMap().computeIfPresent(event.userId(), (key, entry) -> {
+            if (entry.version() >= event.version())
+                return entry;
+
+            if (entry.version() != event.version() - 1)
+                return null;
+
+            TodaysTasks applied = entry;
+
+            for (TaskWrite write : event.writes()) {
+                applied = switch (write) {
+                    case TaskChangedEvent changed -> applied.apply(changed,
+                            (changed.task() != null)? changed.task(): readTasks.get(changed.referenceId()));
+
+                    // Imports are large and rare, the day is loaded again
+                    case TasksImportedEvent imported -> null;
+                };
+
+                if (applied == null)
+                    return null;
+            }
+
+            return applied.at(event.version());
+        });
+    }
+
+    /**
+     * Drops a deleted user's day once the deletion is committed.
+     *
+     * @param event Committed user deletion.
+     */
+    @TransactionalEventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        entries.invalidate(event.userId());
+    }
+
+    /**
+     * User's tasks on a day, never changed once created.
+     *
+     * @param date day the tasks occur on
+     * @param version version of the user's lists the tasks are at
+     * @param tasks tasks occurring once on the day, by reference id
+     * @param occurrences occurrences of recurring tasks on the day
+     */
+    public record TodaysTasks(
+            LocalDate date,
+            long version,
+            Map<UUID, TaskView> tasks,
+            List<TaskOccurrence> occurrences
+    ) {
+
+        public TodaysTasks {
+            tasks = Map.copyOf(tasks);
+            occurrences = List.copyOf(occurrences);
+        }
+
+        /**
+         * Applies a committed write.
+         *
+         * @return Day after the write, null if it must be loaded again.
+         */
+        private TodaysTasks apply(TaskChangedEvent event, TaskView task) {
+            UUID referenceId = event.referenceId();
+            boolean occurring = occurrences.stream().anyMatch(occurrence -> occurrence.task().referenceId().equals(referenceId));
+
+            return switch (event.type()) {
+                case DELETED, ARCHIVED -> (occurring || tasks.containsKey(referenceId))? without(referenceId): this;
+                case CREATED, UPDATED -> {
+                    // Occurrences depend on the recurrence and on overrides the event doesn't carry
+                    if (occurring || isRecurring(event, task))
+                        yield null;
+
+                    if (task == null || !task.eventDate().equals(date))
+                        yield tasks.containsKey(referenceId)? without(referenceId): this;
+
+                    // Writes of a task commit in version order, but their events may be applied out of it
+                    TaskView kept = tasks.get(referenceId);
+                    if (kept != null && kept.version() > task.version())
+                        yield this;
+
+                    Map<UUID, TaskView> changedTasks = new HashMap<>(tasks);
+                    changedTasks.put(referenceId, task);
+
+                    yield new TodaysTasks(date, version, changedTasks, occurrences);
+                }
+            };
+        }
+
+        private TodaysTasks at(long version) {
+            return new TodaysTasks(date, version, tasks, occurrences);
+        }
+
+        private TodaysTasks without(UUID referenceId) {
+            Map<UUID, TaskView> changedTasks = new HashMap<>(tasks);
+            changedTasks.remove(referenceId);
+
+            return new TodaysTasks(
+                    date,
+                    version,
+                    changedTasks,
+                    occurrences.stream().filter(occurrence -> !occurrence.task().referenceId().equals(referenceId)).toList()
+            );
+        }
+
+        private static boolean isRecurring(TaskChangedEvent event, TaskView task) {
+            return (task != null && task.recurrence() != null)
+                    || (event.previous() != null && event.previous().recurrence() != null)
+                    || (event.current() != null && event.current().recurrence() != null);
+        }
+    }
+}
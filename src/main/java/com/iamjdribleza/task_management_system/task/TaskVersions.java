@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import com.iamjdribleza.task_management_system.user.UserRepository;
+import com.iamjdribleza.task_management_system.user.UserTasksVersion;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+
+/**
+ * Versions of users' task lists and of single tasks, used as entity tags.
+ * List versions are kept with the user and advanced in the transaction of every task write,
+ * so every node reads the same version and a tag can only match the lists it was made for.
+ * Task versions are the tasks' optimistic lock versions, so they also serve If-Match.
+ * Once a transaction commits, a TaskListChangedEvent tells in-process views of the lists which version they're at.
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+
+@RequiredArgsConstructor
+
+@Component
+public class TaskVersions {
+
+    private final UserRepository userRepository;
+    private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    /**
+     * Reads the committed version of user's task lists.
+     *
+     * @param userId Owner's id.
+     * @return Version of the lists, advanced by every committed write of the user's tasks.
+     */
+    public long userVersion(long userId) {
+        return userRepository.findTasksVersionById(userId).orElse(0L);
+    }
+
+    /**
+     * Entity tag of a representation of user's tasks.
+     *
+     * @param version Version of the user's lists, read by userVersion.
+     * @param representation Tells apart representations, e.g. a page of a list.
+     * @return Strong entity tag, without quotes.
+     */
+    public static String userETag(long version, String representation) {
+        return Long.toString(version, 36) + "-" + representation;
+    }
+
+    /**
+     * Committed version of a task, only if the task is owned by the user.
+     *
+     * @param userId Requesting user's id.
+     * @param referenceId Task's reference id.
+     * @return Task's version, empty if task doesn't exist or isn't owned by the user.
+     */
+    public Optional<Long> findTaskVersion(long userId, UUID referenceId) {
+        return taskRepository.findVersionByReferenceIdAndUserId(referenceId, userId);
+    }
+
+    /**
+     * Advances the version of the owner's lists when the write's transaction commits.
+     *
+     * @param write Task change or import chunk, not yet committed.
+     */
+    @EventListener
+    public void onTaskWrite(TaskWrite write) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            ChangedUsers changedUsers = new ChangedUsers();
+            changedUsers.add(write);
+            changedUsers.beforeCommit(false);
+            changedUsers.afterCommit();
+            return;
+        }
+
+        ChangedUsers changedUsers = (ChangedUsers) TransactionSynchronizationManager.getResource(this);
+
+        if (changedUsers == null) {
+            changedUsers = new ChangedUsers();
+            TransactionSynchronizationManager.bindResource(this, changedUsers);
+            TransactionSynchronizationManager.registerSynchronization(changedUsers);
+        }
+
+        changedUsers.add(write);
+    }
+
+    /**
+     * Entity tag of a task's version.
+     *
+     * @param version Task's optimistic lock version.
+     * @return Strong entity tag, without quotes.
+     */
+    public static String taskETag(long version) {
+        return Long.toString(version);
+    }
+
+    /**
+     * Reads the version a task's entity tag was made from.
+     *
+     * @param eTag Entity tag, with or without quotes.
+     * @return Task's version, empty if the tag is weak or wasn't made by taskETag.
+     */
+    public static OptionalLong parseTaskETag(String eTag) {
+        String value = eTag.strip();
+
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\""))
+            value = value.substring(1, value.length() - 1);
+
+        try {
+            return OptionalLong.of(Long.parseLong(value));
+        } catch (NumberFormatException e) {
+            return OptionalLong.empty();
+        }
+    }
+
+    /**
+     * Writes of a transaction by user, advances each user's version once, right before the transaction commits.
+     * The users' rows stay locked only while the transaction commits, not while its writes run.
+     */
+    private final class ChangedUsers implements TransactionSynchronization {
+
+        // Sorted, so transactions writing several users lock them in the same order
+        private final SortedMap<Long, List<TaskWrite>> writesByUser = new TreeMap<>();
+        private List<UserTasksVersion> versions = List.of();
+
+        private void add(TaskWrite write) {
+            writesByUser.computeIfAbsent(write.userId(), key -> new ArrayList<>()).add(write);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            userRepository.incrementTasksVersionByIdIn(writesByUser.keySet());
+            versions = userRepository.findTasksVersionsByIdIn(writesByUser.keySet());
+        }
+
+        @Override
+        public void afterCommit() {
+            versions.forEach(version -> applicationEventPublisher.publishEvent(new TaskListChangedEvent(
+                    version.userId(), version.tasksVersion(), List.copyOf(writesByUser.get(version.userId())))));
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(TaskVersions.this);
+        }
+    }
+}
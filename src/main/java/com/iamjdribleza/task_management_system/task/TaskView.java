@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import com.iamjdribleza.task_management_system.enums.Priority;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only projection of a task, selected straight from the database without a managed entity.
+ *
+ * @param id task's id
+ * @param referenceId task's reference id
+ * @param description task's details
+ * @param eventDate task's date occurs
+ * @param priority task's priority
+ * @param dateCreated date and time task was created
+ * @param dateUpdated date and time task was last updated
+ * @param userId owner's id
+ * @param recurrence task's recurrence, null for tasks that occur once
+ * @param version task's optimistic lock version, exposed as its entity tag
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+public record TaskView(
+        long id,
+        UUID referenceId,
+        String description,
+        LocalDate eventDate,
+        Priority priority,
+        LocalDateTime dateCreated,
+        LocalDateTime dateUpdated,
+        long userId,
+        Recurrence recurrence,
+        long version
+) {
+
+    /**
+     * Creates a projection from a task entity.
+     *
+     * @param task Task to be projected, its user may be an uninitialized reference.
+     * @return Task's projection.
+     */
+    public static TaskView of(Task task) {
+        return new TaskView(
+                task.getId(),
+                task.getReferenceId(),
+                task.getDescription(),
+                task.getEventDate(),
+                task.getPriority(),
+                task.getDateCreated(),
+                task.getDateUpdated(),
+                task.getUser().getId(),
+                task.getRecurrence(),
+                task.getVersion()
+        );
+    }
+}
@@ -0,0 +1,21 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+/**
+ * Event published for a write of a user's tasks, in the transaction of the write.
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+public sealed interface TaskWrite permits TaskChangedEvent, TasksImportedEvent {
+
+    /**
+     * @return Owner's id.
+     */
+    long userId();
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import java.util.List;
+
+/**
+ * Published by TaskImportService once per saved chunk, in place of a TaskChangedEvent for every row.
+ * Listeners should use @TransactionalEventListener so they only see committed chunks.
+ *
+ * @param userId owner's id
+ * @param tasks created tasks
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+public record TasksImportedEvent(
+        long userId,
+        List<TaskView> tasks
+) implements TaskWrite {}
@@ -0,0 +1,316 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Inverted index of a single user's task descriptions.
+ * Every task gets a dense document number, and each term keeps its postings
+ * as sorted int arrays of document numbers and term frequencies.
+ * Terms are kept sorted, so query terms are matched as prefixes.
+ * The index is tagged with the version of the user's lists it holds.
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+class UserTaskIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    // Longer tokens are truncated, they are rarely typed in full
+    private static final int MAX_TOKEN_LENGTH = 32;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Postings> postingsByTerm = new TreeMap<>();
+    private final Map<UUID, Integer> documentsByReferenceId = new HashMap<>();
+    private final BitSet removedDocuments = new BitSet();
+
+    private TaskView[] documents = new TaskView[INITIAL_CAPACITY];
+    private int documentCount;
+
+    // Version of the user's lists held, only advanced by one committed transaction at a time
+    private volatile long version;
+
+    UserTaskIndex(long version) {
+        this.version = version;
+    }
+
+    long version() {
+        return version;
+    }
+
+    /**
+     * Applies the writes of a committed transaction, if the index is at the version just before it.
+     * Searches see either none or all of the writes.
+     *
+     * @param committedVersion Version of the user's lists after the transaction.
+     * @param writes Applies the transaction's writes to the index.
+     * @return false if the index missed a transaction and must be loaded again.
+     */
+    boolean advance(long committedVersion, Consumer<UserTaskIndex> writes) {
+        lock.writeLock().lock();
+
+        try {
+            if (version != committedVersion - 1)
+                return false;
+
+            writes.accept(this);
+            version = committedVersion;
+
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a task, replacing the task's previous version if it's indexed.
+     * A task already indexed at a more recent version is kept.
+     *
+     * @param task Task to be indexed.
+     */
+    void put(TaskView task) {
+        lock.writeLock().lock();
+
+        try {
+            Integer document = documentsByReferenceId.get(task.referenceId());
+
+            // Loads may read writes whose events are applied after them
+            if (document != null && documents[document].version() > task.version())
+                return;
+
+            removeDocument(task.referenceId());
+            addDocument(task);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a task.
+     *
+     * @param referenceId Task's reference id.
+     */
+    void remove(UUID referenceId) {
+        lock.writeLock().lock();
+
+        try {
+            removeDocument(referenceId);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds tasks whose description has every query term as a prefix of one of its words.
+     * Tasks are ranked by TF-IDF score, then by event date and id, latest first.
+     *
+     * @param terms Tokenized query.
+     * @param offset Number of ranked tasks to skip.
+     * @param limit Maximum number of tasks returned.
+     * @return Total number of matched tasks and the requested page of them.
+     */
+    SearchResult search(List<String> terms, int offset, int limit) {
+        lock.readLock().lock();
+
+        try {
+            if (terms.isEmpty() || documentCount == 0)
+                return new SearchResult(0, List.of());
+
+            int liveDocuments = documentCount - removedDocuments.cardinality();
+            float[] scores = new float[documentCount];
+            int[] matchedTerms = new int[documentCount];
+
+            for (int i = 0; i < terms.size(); i++) {
+                String term = terms.get(i);
+
+                for (Postings postings : postingsByTerm.subMap(term, true, term + Character.MAX_VALUE, false).values()) {
+                    float idf = (float) Math.log(1 + (double) liveDocuments / postings.size);
+
+                    for (int j = 0; j < postings.size; j++) {
+                        int document = postings.documents[j];
+
+                        // A document counts once per query term, even if several words share the prefix
+                        if (matchedTerms[document] == i)
+                            matchedTerms[document] = i + 1;
+
+                        if (matchedTerms[document] == i + 1)
+                            scores[document] += postings.frequencies[j] * idf;
+                    }
+                }
+            }
+
+            return collect(scores, matchedTerms, terms.size(), offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Keeps the best offset + limit documents in a bounded heap instead of sorting every match.
+     */
+    private SearchResult collect(float[] scores, int[] matchedTerms, int termCount, int offset, int limit) {
+        Comparator<Integer> ranking = Comparator
+                .<Integer>comparingDouble(document -> scores[document])
+                .thenComparing(document -> documents[document].eventDate())
+                .thenComparingLong(document -> documents[document].id());
+
+        int capacity = offset + limit;
+        PriorityQueue<Integer> best = new PriorityQueue<>(Math.max(1, Math.min(capacity, 1024)), ranking);
+        long total = 0;
+
+        for (int document = 0; document < documentCount; document++) {
+            if (matchedTerms[document] != termCount || removedDocuments.get(document))
+                continue;
+
+            total++;
+
+            if (capacity == 0)
+                continue;
+
+            if (best.size() < capacity)
+                best.add(document);
+            else if (ranking.compare(document, best.peek()) > 0) {
+                best.poll();
+                best.add(document);
+            }
+        }
+
+        // Heap is drained from the lowest rank, so the page is filled from its end
+        int pageSize = Math.max(0, best.size() - offset);
+        TaskView[] page = new TaskView[pageSize];
+
+        for (int i = best.size() - 1; i >= 0; i--) {
+            int document = best.poll();
+
+            if (i >= offset)
+                page[i - offset] = documents[document];
+        }
+
+        return new SearchResult(total, Arrays.asList(page));
+    }
+
+    private void addDocument(TaskView task) {
+        if (documentCount == documents.length)
+            documents = Arrays.copyOf(documents, documentCount * 2);
+
+        int document = documentCount++;
+        documents[document] = task;
+        documentsByReferenceId.put(task.referenceId(), document);
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : tokenize(task.description()))
+            frequencies.merge(token, 1, Integer::sum);
+
+        // Document numbers only grow, so appending keeps every postings list sorted
+        frequencies.forEach((token, frequency) ->
+                postingsByTerm.computeIfAbsent(token, key -> new Postings()).add(document, frequency));
+    }
+
+    private void removeDocument(UUID referenceId) {
+        Integer document = documentsByReferenceId.remove(referenceId);
+
+        // Postings of removed documents are skipped until the next compaction
+        if (document != null) {
+            removedDocuments.set(document);
+            documents[document] = null;
+        }
+    }
+
+    /**
+     * Rebuilds the index from live documents once removed ones outnumber them.
+     */
+    private void compactIfNeeded() {
+        int removed = removedDocuments.cardinality();
+
+        if (removed < INITIAL_CAPACITY || removed < documentCount - removed)
+            return;
+
+        TaskView[] liveDocuments = new TaskView[documentCount - removed];
+        int live = 0;
+
+        for (int document = 0; document < documentCount; document++) {
+            if (!removedDocuments.get(document))
+                liveDocuments[live++] = documents[document];
+        }
+
+        postingsByTerm.clear();
+        documentsByReferenceId.clear();
+        removedDocuments.clear();
+        documents = new TaskView[Math.max(INITIAL_CAPACITY, live)];
+        documentCount = 0;
+
+        for (TaskView task : liveDocuments)
+            addDocument(task);
+    }
+
+    /**
+     * Splits text into lower-cased words of letters and digits, accents are removed.
+     *
+     * @param text Text to be tokenized.
+     * @return Words in order of appearance.
+     */
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank())
+            return List.of();
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT);
+
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordCharacter = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+
+            if (wordCharacter && start < 0)
+                start = i;
+            else if (!wordCharacter && start >= 0) {
+                tokens.add(normalized.substring(start, Math.min(i, start + MAX_TOKEN_LENGTH)));
+                start = -1;
+            }
+        }
+
+        return tokens;
+    }
+
+    /**
+     * Page of matched tasks.
+     *
+     * @param total number of matched tasks
+     * @param tasks requested page of ranked tasks
+     */
+    record SearchResult(long total, List<TaskView> tasks) {}
+
+    /**
+     * Growable parallel arrays of document numbers and term frequencies.
+     */
+    private static final class Postings {
+        private int[] documents = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+
+        private void add(int document, int frequency) {
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+
+            documents[size] = document;
+            frequencies[size] = frequency;
+            size++;
+        }
+    }
+}
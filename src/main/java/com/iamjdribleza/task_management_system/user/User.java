@@ -18,6 +18,7 @@ import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -41,7 +42,7 @@ public class User {
     @SequenceGenerator(
             name = "user_seq_gen",
             sequenceName = "user_seq",
-            allocationSize = 1
+            allocationSize = 50
     )
     @GeneratedValue(
             strategy = GenerationType.SEQUENCE,
@@ -80,8 +81,8 @@ public class User {
     @Column(nullable = false)
     private AccountStatus accountStatus;
 
+    // Tasks are purged in chunks before the user, never loaded to be removed
     @OneToMany(
-            cascade = CascadeType.REMOVE,
             mappedBy = "user",
             fetch = FetchType.LAZY
     )
@@ -96,4 +97,16 @@ public class User {
 
     @UpdateTimestamp
     private LocalDate dateUpdated;
+
+    // Set when the user is deleted, the user and its tasks are removed later by the purge job
+    private LocalDateTime deletedAt;
+
+    // Advanced by every committed write of the user's tasks, only ever written by TaskVersions
+    @Column(
+            nullable = false,
+            insertable = false,
+            updatable = false,
+            columnDefinition = "bigint default 0"
+    )
+    private long tasksVersion;
 }
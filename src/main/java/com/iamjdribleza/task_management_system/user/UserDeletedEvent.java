@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.user;
+
+import java.util.UUID;
+
+/**
+ * Published by UserService when a user is deleted.
+ * The user's tasks stay in the database until they're purged, so listeners drop what they keep of them.
+ *
+ * @param userId user's id
+ * @param referenceId user's reference id
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+public record UserDeletedEvent(
+        long userId,
+        UUID referenceId
+) {}
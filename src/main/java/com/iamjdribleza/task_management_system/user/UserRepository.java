@@ -7,7 +7,12 @@
 package com.iamjdribleza.task_management_system.user;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -18,6 +23,46 @@ import java.util.UUID;
  * @version 1.0
  */
 public interface UserRepository extends JpaRepository<User, Long> {
-    Optional<User> findByReferenceId(UUID referenceId);
+    // Deleted users are left out until they're purged, their email stays taken until then
+    Optional<User> findByReferenceIdAndDeletedAtIsNull(UUID referenceId);
     boolean existsByAuthenticationEmail(String email);
+
+    // Loads user, authentication and roles in a single query
+    @Query("""
+            select u from User u join fetch u.authentication left join fetch u.roles
+            where u.referenceId = :referenceId and u.deletedAt is null
+            """)
+    Optional<User> findWithAuthenticationByReferenceId(UUID referenceId);
+
+    // Read-only projections, no entity is hydrated
+    @Query("""
+            select new com.iamjdribleza.task_management_system.user.UserView(
+                u.id, u.referenceId, u.firstName, u.lastName, a.email)
+            from User u join u.authentication a
+            where u.deletedAt is null
+            """)
+    List<UserView> findAllViews();
+
+    @Query("""
+            select new com.iamjdribleza.task_management_system.user.UserRoleView(u.id, r)
+            from User u join u.roles r
+            where u.deletedAt is null
+            """)
+    List<UserRoleView> findAllRoleViews();
+
+    // Versions of users' task lists, see TaskVersions
+    @Query("select u.tasksVersion from User u where u.id = :id")
+    Optional<Long> findTasksVersionById(long id);
+
+    @Query("""
+            select new com.iamjdribleza.task_management_system.user.UserTasksVersion(u.id, u.tasksVersion)
+            from User u
+            where u.id in :ids
+            """)
+    List<UserTasksVersion> findTasksVersionsByIdIn(Collection<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query(value = "update app_user set tasks_version = tasks_version + 1 where id in :ids", nativeQuery = true)
+    int incrementTasksVersionByIdIn(Collection<Long> ids);
 }
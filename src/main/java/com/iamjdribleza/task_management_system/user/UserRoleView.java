@@ -0,0 +1,21 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.user;
+
+/**
+ * Read-only projection of a single role of a user.
+ *
+ * @param userId user's id
+ * @param role user's role
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+public record UserRoleView(
+        long userId,
+        String role
+) {}
@@ -7,19 +7,24 @@
 package com.iamjdribleza.task_management_system.user;
 
 import com.iamjdribleza.task_management_system.auth.AuthenticationService;
+import com.iamjdribleza.task_management_system.auth.IdentityCache;
 import com.iamjdribleza.task_management_system.enums.AccountStatus;
 import com.iamjdribleza.task_management_system.exceptions.ResourceAlreadyExists;
 import com.iamjdribleza.task_management_system.exceptions.ResourceNotFoundException;
 import com.iamjdribleza.task_management_system.mapper.UserMapper;
 import com.iamjdribleza.task_management_system.enums.Role;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Class implementation of UserService for user's data operations.
@@ -37,6 +42,8 @@ public class UserServiceImpl implements UserService {
     private final PasswordEncoder passwordEncoder;
     private final UserMapper userMapper;
     private final AuthenticationService authenticationService;
+    private final IdentityCache identityCache;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     /**
      * Retrieves a user using reference id from the database.
@@ -45,21 +52,32 @@ public class UserServiceImpl implements UserService {
      * @return User's details.
      * @throws ResourceNotFoundException if user is not found.
      */
+    @Transactional(readOnly = true)
     @Override
     public UserDto getUser(UUID refId) {
-        return userRepository.findByReferenceId(refId)
+        return userRepository.findByReferenceIdAndDeletedAtIsNull(refId)
                 .map(userMapper::toUserDto)
                 .orElseThrow(() -> new ResourceNotFoundException("refId"));
     }
 
     /**
      * Retrieves all users from the database.
+     * Users and their roles are selected as projections, no entity is hydrated.
      *
      * @return List of user's details.
      */
+    @Transactional(readOnly = true)
     @Override
     public List<UserDto> getUsers() {
-        return userMapper.toDtoList(userRepository.findAll());
+        Map<Long, List<String>> rolesByUserId = userRepository.findAllRoleViews().stream()
+                .collect(Collectors.groupingBy(
+                        UserRoleView::userId,
+                        Collectors.mapping(UserRoleView::role, Collectors.toList())
+                ));
+
+        return userRepository.findAllViews().stream()
+                .map(userView -> userMapper.toUserDto(userView, rolesByUserId.getOrDefault(userView.id(), List.of())))
+                .toList();
     }
 
     /**
@@ -104,6 +122,9 @@ public class UserServiceImpl implements UserService {
 
         User savedUser = userRepository.save(newUser);
 
+        // Nothing is cached yet, but the new identity's first lookups then read from the primary
+        identityCache.evict(savedUser.getAuthentication().getEmail(), savedUser.getReferenceId());
+
         // Return the newly created user
         return userMapper.toUserDto(savedUser);
     }
@@ -124,10 +145,13 @@ public class UserServiceImpl implements UserService {
 
         // Save new details
         userRepository.save(authenticatedUser);
+
+        identityCache.evict(authenticatedUser.getAuthentication().getEmail(), authenticatedUser.getReferenceId());
     }
 
     /**
-     * Deletes a user from the database
+     * Deletes a user
+     * Only the user is marked as deleted, the user and its tasks are removed later by the purge job.
      *
      * @param refId User's reference id
      */
@@ -136,11 +160,16 @@ public class UserServiceImpl implements UserService {
     @Override
     public void deleteUser(UUID refId) {
         // Get user to be deleted using reference id
-        User user = userRepository.findByReferenceId(refId)
+        User user = userRepository.findByReferenceIdAndDeletedAtIsNull(refId)
                 .orElseThrow(() -> new ResourceNotFoundException("No user found with reference id" + refId));
 
-        // Confirm deletion
-        userRepository.delete(user);
+        // Mark as deleted, tasks aren't touched
+        user.setDeletedAt(LocalDateTime.now());
+
+        // Tokens already issued stop being accepted, also evicts the cached identity
+        authenticationService.revokeTokens(user);
+
+        applicationEventPublisher.publishEvent(new UserDeletedEvent(user.getId(), user.getReferenceId()));
     }
 
     /**
@@ -162,5 +191,8 @@ public class UserServiceImpl implements UserService {
 
         // Save changes
         userRepository.save(authenticatedUser);
+
+        // Tokens carry account's status, so the old ones must stop being accepted
+        authenticationService.revokeTokens(authenticatedUser);
     }
 }
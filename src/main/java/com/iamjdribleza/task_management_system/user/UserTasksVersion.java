@@ -0,0 +1,21 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.user;
+
+/**
+ * Read-only projection of the version of a user's task lists.
+ *
+ * @param userId user's id
+ * @param tasksVersion version of user's task lists
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+public record UserTasksVersion(
+        long userId,
+        long tasksVersion
+) {}
@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.user;
+
+import java.util.UUID;
+
+/**
+ * Read-only projection of a user and its email, selected straight from the database.
+ *
+ * @param id user's id
+ * @param referenceId user's reference id
+ * @param firstName user's first name
+ * @param lastName user's last name
+ * @param email account's email
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+public record UserView(
+        long id,
+        UUID referenceId,
+        String firstName,
+        String lastName,
+        String email
+) {}
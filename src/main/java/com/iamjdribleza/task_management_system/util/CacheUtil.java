@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.util;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import lombok.experimental.UtilityClass;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Utility class for loading cache entries
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+
+@UtilityClass
+public class CacheUtil {
+
+    /**
+     * Gets a value, loading it on the calling thread when absent.
+     * Concurrent lookups of the same key wait for the single load instead of loading again.
+     *
+     * A synchronous cache loads inside the map's lock, which pins a virtual thread to its carrier
+     * for as long as the load blocks. Here only an empty future is put inside the lock.
+     *
+     * @param cache Cache holding the value.
+     * @param key Value's key.
+     * @param loader Loads the value on a miss, returns null if there is none.
+     * @return Cached or loaded value, null if there is none.
+     */
+    public static <K, V> V get(AsyncCache<K, V> cache, K key, Function<? super K, ? extends V> loader) {
+        CompletableFuture<V> loading = new CompletableFuture<>();
+        CompletableFuture<V> value = cache.get(key, (k, executor) -> loading);
+
+        if (value == loading) {
+            try {
+                loading.complete(loader.apply(key));
+            } catch (RuntimeException | Error e) {
+                // Failed loads aren't kept, the next lookup loads again
+                loading.completeExceptionally(e);
+            }
+        }
+
+        try {
+            return value.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause)
+                throw cause;
+
+            if (e.getCause() instanceof Error cause)
+                throw cause;
+
+            throw e;
+        }
+    }
+}
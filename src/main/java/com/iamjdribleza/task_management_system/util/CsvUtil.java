@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Utility class for reading and writing CSV (RFC 4180) one record at a time
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+
+@UtilityClass
+public class CsvUtil {
+
+    /**
+     * Quotes a value if it contains a separator, quote or line break.
+     *
+     * @param value Value to be written.
+     * @return Value safe to be written as a CSV field.
+     */
+    public static String escape(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0)
+            return value;
+
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Reads the next record, quoted fields may span several lines.
+     *
+     * @param reader Reader positioned at the start of a record, should be buffered.
+     * @return Fields of the record, null at the end of input.
+     * @throws IOException if input can't be read.
+     */
+    public static List<String> readRecord(Reader reader) throws IOException {
+        int c = reader.read();
+
+        if (c == -1)
+            return null;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (c != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+
+                    // Doubled quote is an escaped quote, otherwise the quoted part ends
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (next != -1) reader.reset();
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+
+            c = reader.read();
+        }
+
+        fields.add(field.toString());
+
+        return fields;
+    }
+}
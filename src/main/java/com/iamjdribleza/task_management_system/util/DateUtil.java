@@ -6,13 +6,16 @@
 
 package com.iamjdribleza.task_management_system.util;
 
+import com.iamjdribleza.task_management_system.exceptions.InvalidArgumentException;
 import lombok.experimental.UtilityClass;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 
 /**
- * Utility class for date formatting
+ * Utility class for date formatting and date ranges
  *
  * @author iamjdribleza
  * @version 1.0
@@ -24,4 +27,20 @@ public class DateUtil {
         DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("dd-MMM-yyyy E @ h:mma");
         return dateTimeFormatter.format(date);
     }
+
+    /**
+     * Checks a date range requested by a client.
+     *
+     * @param from First day of the range.
+     * @param to Last day of the range.
+     * @param maxDays Number of days the range must be shorter than.
+     * @throws InvalidArgumentException if range is reversed or longer than allowed.
+     */
+    public static void validateRange(LocalDate from, LocalDate to, int maxDays) {
+        if (from.isAfter(to))
+            throw new InvalidArgumentException("Start of range is after its end");
+
+        if (ChronoUnit.DAYS.between(from, to) >= maxDays)
+            throw new InvalidArgumentException("Range is longer than " + maxDays + " days");
+    }
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Utility class for creating the background jobs' threads
+ *
+ * @author iamjdribleza
+ * @version 1.0
+ */
+
+@UtilityClass
+public class ThreadUtil {
+
+    /**
+     * Creates a single-threaded scheduler for a background job.
+     * Platform threads are daemons, virtual threads always are, so neither keeps the JVM from exiting.
+     *
+     * @param name Thread's name.
+     * @param virtual Whether the job runs on a virtual thread.
+     * @return Scheduler running the job's tasks one after the other.
+     */
+    public static ScheduledExecutorService newScheduledExecutor(String name, boolean virtual) {
+        return Executors.newSingleThreadScheduledExecutor(virtual
+                ? Thread.ofVirtual().name(name).factory()
+                : Thread.ofPlatform().name(name).daemon().factory());
+    }
+
+    /**
+     * Creates a fixed number of daemon platform threads for blocking work handed off by other threads.
+     *
+     * @param name Threads' name prefix.
+     * @param threads Number of threads.
+     * @return Executor running tasks on the threads.
+     */
+    public static ExecutorService newFixedExecutor(String name, int threads) {
+        return Executors.newFixedThreadPool(threads, Thread.ofPlatform().name(name + "-", 0).daemon().factory());
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iamjdribleza.task_management_system.auth.Authentication;
+import com.iamjdribleza.task_management_system.enums.AccountStatus;
+import com.iamjdribleza.task_management_system.user.User;
+import com.iamjdribleza.task_management_system.user.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+
+/**
+ * Runs the application on a random port against the in-memory test database, with helpers calling its API as a user.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public abstract class ApiTestSupport {
+
+    private static final String PASSWORD = "password";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    protected UserRepository userRepository;
+
+    @Autowired
+    protected ObjectMapper objectMapper;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    protected final HttpClient httpClient = HttpClient.newHttpClient();
+
+    /**
+     * Saves an active user with a unique email.
+     *
+     * @return Saved user.
+     */
+    protected User createUser() {
+        User user = new User();
+        user.setReferenceId(UUID.randomUUID());
+        user.setFirstName("Test");
+        user.setLastName("User");
+        user.setAccountStatus(AccountStatus.ACTIVE);
+        user.getRoles().add("USER");
+
+        Authentication authentication = new Authentication();
+        authentication.setReferenceId(UUID.randomUUID());
+        authentication.setEmail(UUID.randomUUID() + "@example.com");
+        authentication.setPassword(passwordEncoder.encode(PASSWORD));
+        authentication.setUser(user);
+        user.setAuthentication(authentication);
+
+        return userRepository.save(user);
+    }
+
+    /**
+     * Logs a user in.
+     *
+     * @return User's access token.
+     */
+    protected String login(User user) throws IOException, InterruptedException {
+        String body = objectMapper.writeValueAsString(new LoginBody(user.getAuthentication().getEmail(), PASSWORD));
+
+        return json(send(null, "POST", "/api/v1/auth", body)).get("accessToken").asText();
+    }
+
+    protected HttpResponse<String> send(String token, String method, String path, String body, String... headers)
+            throws IOException, InterruptedException {
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .method(method, (body == null)? HttpRequest.BodyPublishers.noBody(): HttpRequest.BodyPublishers.ofString(body));
+
+        if (token != null)
+            request.header("Authorization", "Bearer " + token);
+
+        if (headers.length > 0)
+            request.headers(headers);
+
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    protected JsonNode json(HttpResponse<String> response) throws IOException {
+        return objectMapper.readTree(response.body());
+    }
+
+    protected URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private record LoginBody(String email, String password) {}
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.datasource;
+
+import com.iamjdribleza.task_management_system.ApiTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Writers are only tracked when reads can go to a replica, the in-memory database serves as its own replica
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:replicated;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.username=sa",
+        "app.datasource.replica.urls=jdbc:h2:mem:replicated;DATABASE_TO_LOWER=TRUE",
+        "app.datasource.replica.lag-query=select 0"
+})
+class LastWriteCookieTest extends ApiTestSupport {
+
+    @Test
+    void writesSetTheCookieAndReadsDont() throws Exception {
+        String token = login(createUser());
+
+        HttpResponse<String> write = send(token, "POST", "/api/v1/tasks",
+                "{\"description\":\"task\",\"eventDate\":\"" + LocalDate.now() + "\",\"priority\":\"LOW\"}");
+        assertTrue(hasLastWriteCookie(write));
+
+        HttpResponse<String> read = send(token, "GET", "/api/v1/tasks", null);
+        assertFalse(hasLastWriteCookie(read));
+
+        // Checks the list version against the primary outside a transaction
+        HttpResponse<String> conditionalRead = send(token, "GET", "/api/v1/tasks/today?pageOffset=0", null);
+        assertFalse(hasLastWriteCookie(conditionalRead));
+    }
+
+    private static boolean hasLastWriteCookie(HttpResponse<String> response) {
+        return response.headers().allValues("Set-Cookie").stream()
+                .anyMatch(cookie -> cookie.startsWith(ReadYourWrites.LAST_WRITE_COOKIE + "="));
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.datasource;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadYourWritesTest {
+
+    private static final long WINDOW_MILLIS = 5000;
+
+    @BeforeEach
+    void authenticate() {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("user@example.com", null));
+    }
+
+    @AfterEach
+    void clear() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void writeIsRecentOnAnotherNodeThroughTheCookie() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest(), response));
+
+        new ReadYourWrites(WINDOW_MILLIS, 100, false).recordWrite();
+
+        Cookie cookie = response.getCookie(ReadYourWrites.LAST_WRITE_COOKIE);
+        assertNotNull(cookie);
+        assertEquals(5, cookie.getMaxAge());
+
+        ReadYourWrites otherNode = new ReadYourWrites(WINDOW_MILLIS, 100, false);
+        assertFalse(otherNode.isRecentWriter());
+
+        request(new Cookie(ReadYourWrites.LAST_WRITE_COOKIE, cookie.getValue()));
+        assertTrue(otherNode.isRecentWriter());
+
+        // Keys are only recent on the node that wrote them
+        assertFalse(otherNode.isRecentWriter("user@example.com"));
+        assertFalse(otherNode.isRecentWriter("other@example.com"));
+    }
+
+    @Test
+    void cookieIsSecureWhenConfigured() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest(), response));
+
+        new ReadYourWrites(WINDOW_MILLIS, 100, true).recordWrite();
+
+        assertTrue(response.getCookie(ReadYourWrites.LAST_WRITE_COOKIE).getSecure());
+    }
+
+    @Test
+    void cookieOutsideTheWindowIsIgnored() {
+        ReadYourWrites readYourWrites = new ReadYourWrites(WINDOW_MILLIS, 100, false);
+        long now = System.currentTimeMillis();
+
+        request(new Cookie(ReadYourWrites.LAST_WRITE_COOKIE, Long.toString(now - WINDOW_MILLIS - 1000)));
+        assertFalse(readYourWrites.isRecentWriter());
+
+        request(new Cookie(ReadYourWrites.LAST_WRITE_COOKIE, Long.toString(Long.MAX_VALUE)));
+        assertFalse(readYourWrites.isRecentWriter());
+
+        request(new Cookie(ReadYourWrites.LAST_WRITE_COOKIE, "not a time"));
+        assertFalse(readYourWrites.isRecentWriter());
+    }
+
+    @Test
+    void anonymousRequestsAreNeverRecentWriters() {
+        SecurityContextHolder.clearContext();
+        request(new Cookie(ReadYourWrites.LAST_WRITE_COOKIE, Long.toString(System.currentTimeMillis())));
+
+        assertFalse(new ReadYourWrites(WINDOW_MILLIS, 100, false).isRecentWriter());
+    }
+
+    private static void request(Cookie cookie) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(cookie);
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, new MockHttpServletResponse()));
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.jwt;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CachingJwtDecoderTest {
+
+    private final JwtDecoder delegate = mock(JwtDecoder.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 1024 * 1024, meterRegistry);
+
+    @Test
+    void verifiedTokenIsDecodedOnce() {
+        Jwt jwt = jwt("token", Instant.now().plusSeconds(3600));
+        when(delegate.decode("token")).thenReturn(jwt);
+
+        assertSame(jwt, decoder.decode("token"));
+        assertSame(jwt, decoder.decode("token"));
+
+        verify(delegate, times(1)).decode("token");
+        assertEquals(1, meterRegistry.get("jwt.verifications.saved").functionCounter().count());
+    }
+
+    @Test
+    void tokensAreCachedApart() {
+        Jwt first = jwt("first", Instant.now().plusSeconds(3600));
+        Jwt second = jwt("second", Instant.now().plusSeconds(3600));
+        when(delegate.decode("first")).thenReturn(first);
+        when(delegate.decode("second")).thenReturn(second);
+
+        assertSame(first, decoder.decode("first"));
+        assertSame(second, decoder.decode("second"));
+    }
+
+    @Test
+    void rejectedTokenIsVerifiedEveryTime() {
+        when(delegate.decode("forged")).thenThrow(new JwtException("Invalid signature"));
+
+        assertThrows(JwtException.class, () -> decoder.decode("forged"));
+        assertThrows(JwtException.class, () -> decoder.decode("forged"));
+
+        verify(delegate, times(2)).decode("forged");
+    }
+
+    @Test
+    void tokenWithoutTimeLeftIsNotKept() {
+        when(delegate.decode("expiring")).thenReturn(jwt("expiring", Instant.now().minusSeconds(1)));
+        when(delegate.decode("endless")).thenReturn(jwt("endless", null));
+
+        decoder.decode("expiring");
+        decoder.decode("expiring");
+        decoder.decode("endless");
+        decoder.decode("endless");
+
+        verify(delegate, times(2)).decode("expiring");
+        verify(delegate, times(2)).decode("endless");
+    }
+
+    private static Jwt jwt(String token, Instant expiresAt) {
+        Jwt.Builder builder = Jwt.withTokenValue(token)
+                .header("alg", "HS256")
+                .subject("user@example.com")
+                .issuedAt(Instant.now().minusSeconds(10));
+
+        if (expiresAt != null)
+            builder.expiresAt(expiresAt);
+
+        return builder.build();
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.jwt;
+
+import com.iamjdribleza.task_management_system.ApiTestSupport;
+import com.iamjdribleza.task_management_system.user.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TokenRevocationTest extends ApiTestSupport {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void revocationsByAnotherNodeArePolled() throws Exception {
+        User user = createUser();
+        String token = login(user);
+
+        assertEquals(200, send(token, "GET", "/api/v1/tasks", null).statusCode());
+
+        // What revokeTokens leaves in the database when it runs on another node
+        jdbcTemplate.update("""
+                update authentication set token_version = token_version + 1, tokens_revoked_at = localtimestamp
+                where id = ?
+                """, user.getAuthentication().getId());
+
+        Instant deadline = Instant.now().plus(Duration.ofSeconds(15));
+        int status;
+
+        do {
+            Thread.sleep(250);
+            status = send(token, "GET", "/api/v1/tasks", null).statusCode();
+        } while (status == 200 && Instant.now().isBefore(deadline));
+
+        assertEquals(401, status);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.purge;
+
+import com.iamjdribleza.task_management_system.ApiTestSupport;
+import com.iamjdribleza.task_management_system.user.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PurgeJobTest extends ApiTestSupport {
+
+    @Autowired
+    private PurgeJob purgeJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void purgesDeletedTasksAndUsers() throws Exception {
+        User kept = createUser();
+        String token = login(kept);
+        createTask(token);
+        send(token, "DELETE", "/api/v1/tasks/" + createTask(token), null);
+        send(token, "DELETE", "/api/v1/tasks/" + createTask(token), null);
+
+        User deleted = createUser();
+        String deletedToken = login(deleted);
+        createTask(deletedToken);
+        createTask(deletedToken);
+        jdbcTemplate.update("update app_user set deleted_at = current_timestamp where id = ?", deleted.getId());
+
+        assertEquals(3, countTasks(kept));
+
+        purgeJob.purge();
+
+        // Only the task that wasn't deleted is left, the deleted user goes once its tasks are gone
+        assertEquals(1, countTasks(kept));
+        assertEquals(0, countTasks(deleted));
+        assertEquals(1, countUsers(kept));
+        assertEquals(0, countUsers(deleted));
+        assertEquals(0, backlog("task"));
+        assertEquals(0, backlog("user"));
+    }
+
+    @Test
+    void rowsClaimedByAnotherNodeAreLeftInTheBacklog() throws Exception {
+        User deleted = createUser();
+        String token = login(deleted);
+        createTask(token);
+        jdbcTemplate.update("update app_user set deleted_at = current_timestamp where id = ?", deleted.getId());
+
+        // Task is locked as if another node were purging it, so the run skips it and can't purge its user either
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.queryForList("select id from task where user_id = ? for update", Long.class, deleted.getId());
+
+            CompletableFuture.runAsync(purgeJob::purge).join();
+        });
+
+        assertEquals(1, countTasks(deleted));
+        assertEquals(1, countUsers(deleted));
+        assertEquals(1, backlog("task"));
+        assertEquals(1, backlog("user"));
+
+        purgeJob.purge();
+
+        assertEquals(0, countTasks(deleted));
+        assertEquals(0, countUsers(deleted));
+        assertEquals(0, backlog("task"));
+        assertEquals(0, backlog("user"));
+    }
+
+    private String createTask(String token) throws Exception {
+        HttpResponse<String> response = send(token, "POST", "/api/v1/tasks",
+                "{\"description\":\"task\",\"eventDate\":\"" + LocalDate.now() + "\",\"priority\":\"LOW\"}");
+
+        assertEquals(201, response.statusCode(), response.body());
+        String location = response.headers().firstValue("Location").orElseThrow();
+
+        return location.substring(location.lastIndexOf('/') + 1);
+    }
+
+    private long countTasks(User user) {
+        return jdbcTemplate.queryForObject("select count(*) from task where user_id = ?", Long.class, user.getId());
+    }
+
+    private long countUsers(User user) {
+        return jdbcTemplate.queryForObject("select count(*) from app_user where id = ?", Long.class, user.getId());
+    }
+
+    private double backlog(String entity) {
+        return meterRegistry.get("purge.backlog").tag("entity", entity).gauge().value();
+    }
+}
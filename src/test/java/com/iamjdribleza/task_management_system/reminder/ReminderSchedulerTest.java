@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.reminder;
+
+import com.iamjdribleza.task_management_system.ApiTestSupport;
+import com.iamjdribleza.task_management_system.user.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class ReminderSchedulerTest extends ApiTestSupport {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void everyReminderIsDeliveredOnceAcrossNodes() throws Exception {
+        LocalTime remindAt = LocalTime.now().plusSeconds(3);
+        assumeTrue(remindAt.isAfter(LocalTime.of(0, 0, 5)), "Reminders must be due today");
+
+        User user = createUser();
+        UUID kept = insertTask(user);
+        UUID moved = insertTask(user);
+        UUID deleted = insertTask(user);
+
+        List<Reminder> delivered = new CopyOnWriteArrayList<>();
+        ReminderScheduler node = scheduler(delivered, remindAt);
+        ReminderScheduler otherNode = scheduler(delivered, remindAt);
+
+        try {
+            node.start();
+            otherNode.start();
+
+            // Written through a third node, neither scheduler is told
+            jdbcTemplate.update("update task set event_date = event_date + 1 where reference_id = ?", moved);
+            jdbcTemplate.update("update task set deleted_at = current_timestamp where reference_id = ?", deleted);
+
+            Thread.sleep(5000);
+        } finally {
+            node.stop();
+            otherNode.stop();
+        }
+
+        assertEquals(List.of(kept), delivered.stream().map(Reminder::referenceId).filter(List.of(kept, moved, deleted)::contains).toList());
+    }
+
+    private ReminderScheduler scheduler(List<Reminder> delivered, LocalTime remindAt) {
+        return new ReminderScheduler(delivered::add, dataSource, transactionManager,
+                true, 50, remindAt, ZoneId.systemDefault(), 100, 60, false);
+    }
+
+    private UUID insertTask(User user) {
+        UUID referenceId = UUID.randomUUID();
+
+        jdbcTemplate.update("""
+                insert into task (id, reference_id, description, event_date, priority, user_id, version)
+                values (next value for task_seq, ?, 'reminded', ?, 0, ?, 0)
+                """, referenceId, LocalDate.now(), user.getId());
+
+        return referenceId;
+    }
+}
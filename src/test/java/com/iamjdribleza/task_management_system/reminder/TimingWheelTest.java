@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.reminder;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    @Test
+    void expiresEntryOnItsDeadline() {
+        TimingWheel<String, String> wheel = new TimingWheel<>(100);
+        wheel.schedule("a", "A", 105);
+
+        assertEquals(List.of(), wheel.advanceTo(104));
+        assertEquals(List.of("A"), wheel.advanceTo(105));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void expiresPastDeadlinesOnNextTick() {
+        TimingWheel<String, String> wheel = new TimingWheel<>(100);
+        wheel.schedule("a", "A", 50);
+
+        assertEquals(List.of("A"), wheel.advanceTo(101));
+    }
+
+    @Test
+    void expiresInDeadlineOrderAcrossLevels() {
+        TimingWheel<Integer, Long> wheel = new TimingWheel<>(0);
+        long[] deadlines = {1, 63, 64, 65, 4095, 4096, 4097, 262_144, 300_000};
+
+        // Scheduled backwards, so the order comes from the wheel only
+        for (int i = deadlines.length - 1; i >= 0; i--)
+            wheel.schedule(i, deadlines[i], deadlines[i]);
+
+        List<Long> expired = wheel.advanceTo(300_000);
+
+        assertEquals(deadlines.length, expired.size());
+        for (int i = 0; i < deadlines.length; i++)
+            assertEquals(deadlines[i], expired.get(i));
+    }
+
+    @Test
+    void entryExpiresOnTheTickItIsDue() {
+        TimingWheel<Long, Long> wheel = new TimingWheel<>(7);
+        Random random = new Random(42);
+        List<Long> deadlines = new ArrayList<>();
+
+        for (long key = 0; key < 2000; key++) {
+            long deadline = 8 + random.nextInt(1_000_000);
+            deadlines.add(deadline);
+            wheel.schedule(key, deadline, deadline);
+        }
+
+        deadlines.sort(null);
+        long tick = 7;
+
+        for (long deadline : deadlines) {
+            if (deadline == tick)
+                continue;
+
+            // Nothing expires early, everything due expires on its tick
+            assertEquals(List.of(), wheel.advanceTo(deadline - 1));
+            tick = deadline;
+            List<Long> expired = wheel.advanceTo(deadline);
+            assertFalse(expired.isEmpty());
+            expired.forEach(value -> assertEquals(deadline, value));
+        }
+
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void cancelRemovesEntry() {
+        TimingWheel<String, String> wheel = new TimingWheel<>(0);
+        wheel.schedule("a", "A", 10);
+        wheel.schedule("b", "B", 5000);
+
+        assertTrue(wheel.cancel("a"));
+        assertTrue(wheel.cancel("b"));
+        assertFalse(wheel.cancel("a"));
+        assertEquals(List.of(), wheel.advanceTo(10_000));
+    }
+
+    @Test
+    void scheduleReplacesPreviousSchedule() {
+        TimingWheel<String, String> wheel = new TimingWheel<>(0);
+        wheel.schedule("a", "early", 10);
+        wheel.schedule("a", "late", 20);
+
+        assertEquals(1, wheel.size());
+        assertEquals(List.of(), wheel.advanceTo(19));
+        assertEquals(List.of("late"), wheel.advanceTo(20));
+    }
+
+    @Test
+    void deadlineBeyondTopLevelDoesNotExpireEarly() {
+        TimingWheel<String, String> wheel = new TimingWheel<>(0);
+        wheel.schedule("a", "A", 1L << 40);
+        wheel.schedule("b", "B", 1_000_000);
+
+        assertEquals(List.of("B"), wheel.advanceTo(1_000_000));
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    void advancingBackwardsIsIgnored() {
+        TimingWheel<String, String> wheel = new TimingWheel<>(100);
+        wheel.schedule("a", "A", 101);
+
+        assertEquals(List.of(), wheel.advanceTo(50));
+        assertEquals(100, wheel.currentTick());
+        assertEquals(List.of("A"), wheel.advanceTo(101));
+    }
+}
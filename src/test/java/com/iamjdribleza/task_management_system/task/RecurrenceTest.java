@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import com.iamjdribleza.task_management_system.enums.RecurrenceFrequency;
+import com.iamjdribleza.task_management_system.exceptions.InvalidArgumentException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecurrenceTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 31);
+
+    @Test
+    void dailyOccurrencesWithinRange() {
+        Recurrence recurrence = new Recurrence(RecurrenceFrequency.DAILY, 3, null);
+
+        assertEquals(
+                List.of(LocalDate.of(2025, 2, 3), LocalDate.of(2025, 2, 6), LocalDate.of(2025, 2, 9)),
+                recurrence.occurrences(START, LocalDate.of(2025, 2, 2), LocalDate.of(2025, 2, 10)).toList()
+        );
+    }
+
+    @Test
+    void weeklyOccurrencesStartOnTheEventDate() {
+        Recurrence recurrence = new Recurrence(RecurrenceFrequency.WEEKLY, null, null);
+
+        assertEquals(1, recurrence.interval());
+        assertEquals(
+                List.of(START, START.plusWeeks(1)),
+                recurrence.occurrences(START, START.minusDays(30), START.plusDays(8)).toList()
+        );
+    }
+
+    @Test
+    void monthlyOccurrencesFallOnLastDayOfShorterMonths() {
+        Recurrence recurrence = new Recurrence(RecurrenceFrequency.MONTHLY, 1, null);
+
+        assertEquals(
+                List.of(LocalDate.of(2025, 2, 28), LocalDate.of(2025, 3, 31), LocalDate.of(2025, 4, 30)),
+                recurrence.occurrences(START, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 4, 30)).toList()
+        );
+    }
+
+    @Test
+    void occurrencesStopAtUntil() {
+        Recurrence recurrence = new Recurrence(RecurrenceFrequency.DAILY, 1, START.plusDays(2));
+
+        assertEquals(List.of(START, START.plusDays(1), START.plusDays(2)), recurrence.occurrences(START, START, START.plusDays(10)).toList());
+        assertEquals(List.of(), recurrence.occurrences(START, START.plusDays(3), START.plusDays(10)).toList());
+    }
+
+    @Test
+    void occurrencesOfUnboundedSeriesAreComputedLazily() {
+        Recurrence recurrence = new Recurrence(RecurrenceFrequency.DAILY, 1, null);
+
+        // Far past the start and over a long range, only what's consumed is computed
+        assertEquals(
+                List.of(LocalDate.of(3000, 1, 1), LocalDate.of(3000, 1, 2)),
+                recurrence.occurrences(START, LocalDate.of(3000, 1, 1), LocalDate.of(9999, 12, 31)).limit(2).toList()
+        );
+    }
+
+    @Test
+    void noOccurrencesBeforeStart() {
+        Recurrence recurrence = new Recurrence(RecurrenceFrequency.DAILY, 1, null);
+
+        assertEquals(List.of(), recurrence.occurrences(START, START.minusDays(10), START.minusDays(1)).toList());
+    }
+
+    @Test
+    void occursOnMatchesOccurrences() {
+        Recurrence recurrence = new Recurrence(RecurrenceFrequency.WEEKLY, 2, LocalDate.of(2025, 6, 30));
+        List<LocalDate> occurrences = recurrence.occurrences(START, START.minusDays(1), LocalDate.of(2025, 12, 31)).toList();
+
+        for (LocalDate date = START.minusDays(7); date.isBefore(LocalDate.of(2025, 12, 31)); date = date.plusDays(1))
+            assertEquals(occurrences.contains(date), recurrence.occursOn(START, date), date.toString());
+    }
+
+    @Test
+    void ruleRoundTrips() {
+        Recurrence recurrence = new Recurrence(RecurrenceFrequency.WEEKLY, 2, LocalDate.of(2025, 12, 31));
+
+        assertEquals("FREQ=WEEKLY;INTERVAL=2;UNTIL=20251231", recurrence.toRule());
+        assertEquals(recurrence, Recurrence.parse(recurrence.toRule()));
+        assertEquals(new Recurrence(RecurrenceFrequency.DAILY, 1, null), Recurrence.parse(" freq=daily "));
+        assertNull(Recurrence.parse(" "));
+    }
+
+    @Test
+    void invalidRulesAreRejected() {
+        assertThrows(InvalidArgumentException.class, () -> Recurrence.parse("FREQ=HOURLY"));
+        assertThrows(InvalidArgumentException.class, () -> Recurrence.parse("INTERVAL=2"));
+        assertThrows(InvalidArgumentException.class, () -> Recurrence.parse("FREQ=DAILY;INTERVAL=0"));
+        assertThrows(InvalidArgumentException.class, () -> Recurrence.parse("FREQ=DAILY;COUNT=3"));
+        assertThrows(InvalidArgumentException.class, () -> Recurrence.parse("FREQ=DAILY;UNTIL=2025-12-31"));
+    }
+}
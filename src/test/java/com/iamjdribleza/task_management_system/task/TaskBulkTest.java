@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.iamjdribleza.task_management_system.ApiTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TaskBulkTest extends ApiTestSupport {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void invalidItemsAreReportedWithoutFailingTheOthers() throws Exception {
+        String token = login(createUser());
+        LocalDate today = LocalDate.now();
+
+        String existing = location(send(token, "POST", "/api/v1/tasks",
+                "{\"description\":\"existing\",\"eventDate\":\"" + today + "\",\"priority\":\"LOW\"}"));
+
+        String body = """
+                {
+                  "create": [
+                    {"description": "valid", "eventDate": "%1$s", "priority": "HIGH"},
+                    {"description": " ", "eventDate": "%1$s", "priority": "HIGH"},
+                    {"description": "no priority", "eventDate": "%1$s"}
+                  ],
+                  "update": [
+                    {"referenceId": "%2$s", "description": ""},
+                    {"referenceId": "%2$s", "recurrence": {"frequency": "DAILY", "interval": 0}},
+                    {"referenceId": "%2$s", "description": "renamed"},
+                    {"referenceId": "%3$s", "description": "missing"}
+                  ],
+                  "delete": ["%3$s"]
+                }
+                """.formatted(today, existing, UUID.randomUUID());
+
+        HttpResponse<String> response = send(token, "POST", "/api/v1/tasks/bulk", body);
+
+        assertEquals(200, response.statusCode(), response.body());
+        assertEquals(List.of(
+                "CREATE CREATED", "CREATE INVALID", "CREATE INVALID",
+                "UPDATE INVALID", "UPDATE INVALID", "UPDATE UPDATED", "UPDATE NOT_FOUND",
+                "DELETE NOT_FOUND"
+        ), statuses(json(response)));
+
+        assertEquals("renamed", taskRepository.findByReferenceId(UUID.fromString(existing)).orElseThrow().getDescription());
+    }
+
+    private static List<String> statuses(JsonNode results) {
+        List<String> statuses = new ArrayList<>();
+        results.forEach(result -> statuses.add(result.get("operation").asText() + " " + result.get("status").asText()));
+
+        return statuses;
+    }
+
+    private static String location(HttpResponse<String> response) {
+        String location = response.headers().firstValue("Location").orElseThrow();
+
+        return location.substring(location.lastIndexOf('/') + 1);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import com.iamjdribleza.task_management_system.ApiTestSupport;
+import com.iamjdribleza.task_management_system.user.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TaskCalendarTest extends ApiTestSupport {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 5, 14);
+    private static final String CALENDAR = "/api/v1/tasks/calendar?from=" + DAY + "&to=" + DAY;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void writesOfThisNodeAreCountedWithoutLoading() throws Exception {
+        String token = login(createUser());
+
+        double misses = misses();
+        assertEquals(0, total(token));
+
+        send(token, "POST", "/api/v1/tasks", "{\"description\":\"local\",\"eventDate\":\"" + DAY + "\",\"priority\":\"LOW\"}");
+
+        assertEquals(1, total(token));
+        assertEquals(1, misses() - misses);
+    }
+
+    @Test
+    void writesOfAnotherNodeMakeTheCountersLoadAgain() throws Exception {
+        User user = createUser();
+        String token = login(user);
+
+        assertEquals(0, total(token));
+
+        // What a create committed by another node leaves in the database
+        jdbcTemplate.update("""
+                insert into task (id, reference_id, description, event_date, priority, user_id, version)
+                values (next value for task_seq, ?, 'remote', ?, 0, ?, 0)
+                """, UUID.randomUUID(), DAY, user.getId());
+        jdbcTemplate.update("update app_user set tasks_version = tasks_version + 1 where id = ?", user.getId());
+
+        assertEquals(1, total(token));
+
+        // Counters missed a version, a local write can't be counted on top of them
+        send(token, "POST", "/api/v1/tasks", "{\"description\":\"local\",\"eventDate\":\"" + DAY + "\",\"priority\":\"LOW\"}");
+
+        assertEquals(2, total(token));
+    }
+
+    private int total(String token) throws Exception {
+        return json(send(token, "GET", CALENDAR, null)).get(0).get("total").asInt();
+    }
+
+    private double misses() {
+        return meterRegistry.get("cache.gets").tag("cache", "task.calendar").tag("result", "miss").functionCounter().count();
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import com.iamjdribleza.task_management_system.enums.Priority;
+import com.iamjdribleza.task_management_system.exceptions.InvalidArgumentException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskCursorTest {
+
+    @Test
+    void decodesWhatItEncodes() {
+        TaskCursor cursor = new TaskCursor(LocalDate.of(2025, 3, 15), Priority.HIGH.ordinal(), 42);
+
+        assertEquals(cursor, TaskCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void encodedCursorIsUrlSafe() {
+        String encoded = new TaskCursor(LocalDate.of(2025, 12, 31), Priority.URGENT.ordinal(), Long.MAX_VALUE).encode();
+
+        assertTrue(encoded.matches("[A-Za-z0-9_-]+"), encoded);
+    }
+
+    @Test
+    void missingCursorStartsBeforeEveryTask() {
+        assertEquals(TaskCursor.FIRST, TaskCursor.decode(null));
+        assertEquals(TaskCursor.FIRST, TaskCursor.decode(" "));
+    }
+
+    @Test
+    void pointsRightAfterTheTask() {
+        Task task = new Task();
+        task.setId(7);
+        task.setEventDate(LocalDate.of(2025, 1, 2));
+        task.setPriority(Priority.MODERATE);
+
+        assertEquals(new TaskCursor(LocalDate.of(2025, 1, 2), Priority.MODERATE.ordinal(), 7), TaskCursor.of(task));
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThrows(InvalidArgumentException.class, () -> TaskCursor.decode("not base64!"));
+        assertThrows(InvalidArgumentException.class, () -> TaskCursor.decode(encode("2025-01-01|1")));
+        assertThrows(InvalidArgumentException.class, () -> TaskCursor.decode(encode("2025-13-01|1|1")));
+        assertThrows(InvalidArgumentException.class, () -> TaskCursor.decode(encode("2025-01-01|high|1")));
+    }
+
+    private static String encode(String cursor) {
+        return Base64.getUrlEncoder().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import com.iamjdribleza.task_management_system.ApiTestSupport;
+import com.iamjdribleza.task_management_system.enums.TaskEventType;
+import com.iamjdribleza.task_management_system.user.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskEventStreamTest extends ApiTestSupport {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @Autowired
+    private TaskEventStream taskEventStream;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void committedChangesAreStreamed() throws Exception {
+        String token = login(createUser());
+
+        try (BufferedReader events = open(token)) {
+            send(token, "POST", "/api/v1/tasks", "{\"description\":\"task\",\"eventDate\":\"" + LocalDate.now() + "\",\"priority\":\"LOW\"}");
+
+            assertTimeoutPreemptively(TIMEOUT, () -> awaitEvent(events, "created"));
+        }
+    }
+
+    @Test
+    void reconnectingClientIsToldToReload() throws Exception {
+        String token = login(createUser());
+
+        try (BufferedReader events = open(token, "Last-Event-ID", "41")) {
+            assertTimeoutPreemptively(TIMEOUT, () -> awaitEvent(events, "resync"));
+        }
+    }
+
+    @Test
+    void importedChunkIsStreamedAsAResync() throws Exception {
+        String token = login(createUser());
+        String row = "{\"description\":\"task\",\"eventDate\":\"" + LocalDate.now() + "\",\"priority\":\"LOW\"}\n";
+
+        try (BufferedReader events = open(token)) {
+            send(token, "POST", "/api/v1/tasks/import?format=NDJSON", row + row);
+
+            assertTimeoutPreemptively(TIMEOUT, () -> awaitEvent(events, "resync"));
+        }
+    }
+
+    @Test
+    void writeOfAnotherNodeIsStreamedAsAResync() throws Exception {
+        User user = createUser();
+        String token = login(user);
+
+        try (BufferedReader events = open(token)) {
+            // What a write committed by another node leaves in the database, no event is published here
+            jdbcTemplate.update("update app_user set tasks_version = tasks_version + 1 where id = ?", user.getId());
+
+            assertTimeoutPreemptively(TIMEOUT, () -> awaitEvent(events, "resync"));
+        }
+    }
+
+    @Test
+    void clientThatCantKeepUpIsToldToReload() throws Exception {
+        User user = createUser();
+        String token = login(user);
+        double resyncs = meterRegistry.get("task.events.resyncs").counter().count();
+
+        try (BufferedReader events = open(token)) {
+            // Far more than the buffer and the socket hold while the client reads nothing
+            for (int i = 0; i < 100_000; i++)
+                taskEventStream.onTaskChanged(new TaskChangedEvent(TaskEventType.CREATED, user.getId(), UUID.randomUUID(), null, null, null, 0));
+
+            assertTrue(meterRegistry.get("task.events.resyncs").counter().count() > resyncs);
+            assertTimeoutPreemptively(TIMEOUT, () -> awaitEvent(events, "resync"));
+        }
+    }
+
+    /**
+     * Opens a stream and waits until it's subscribed.
+     * Response headers are only sent along with the first event, so the response isn't waited for.
+     */
+    private BufferedReader open(String token, String... headers) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri("/api/v1/tasks/events"))
+                .header("Authorization", "Bearer " + token)
+                .header("Accept", "text/event-stream");
+
+        if (headers.length > 0)
+            request.headers(headers);
+
+        double subscribers = subscribers();
+        CompletableFuture<HttpResponse<InputStream>> response = httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+
+        assertTimeoutPreemptively(TIMEOUT, () -> {
+            while (subscribers() <= subscribers)
+                Thread.sleep(10);
+        });
+
+        return new BufferedReader(new InputStreamReader(new LazyInputStream(response), StandardCharsets.UTF_8));
+    }
+
+    private double subscribers() {
+        return meterRegistry.get("task.events.subscribers").gauge().value();
+    }
+
+    private static void awaitEvent(BufferedReader events, String name) throws Exception {
+        String line;
+
+        while ((line = events.readLine()) != null) {
+            if (line.equals("event:" + name))
+                return;
+        }
+
+        fail("Stream ended before a " + name + " event");
+    }
+
+    /**
+     * Body of a response that may not have arrived yet, closing it before then cancels the request.
+     */
+    private static final class LazyInputStream extends InputStream {
+        private final CompletableFuture<HttpResponse<InputStream>> response;
+
+        private LazyInputStream(CompletableFuture<HttpResponse<InputStream>> response) {
+            this.response = response;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return body().read();
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            return body().read(bytes, offset, length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!response.cancel(true))
+                body().close();
+        }
+
+        private InputStream body() throws IOException {
+            try {
+                HttpResponse<InputStream> received = response.get();
+                assertEquals(200, received.statusCode());
+
+                return received.body();
+            } catch (InterruptedException | ExecutionException e) {
+                throw new IOException(e);
+            }
+        }
+    }
+}
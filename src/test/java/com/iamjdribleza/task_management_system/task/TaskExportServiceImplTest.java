@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iamjdribleza.task_management_system.auth.AuthenticatedIdentity;
+import com.iamjdribleza.task_management_system.auth.AuthenticationService;
+import com.iamjdribleza.task_management_system.enums.AccountStatus;
+import com.iamjdribleza.task_management_system.enums.ExportFormat;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Exports a million tasks in a heap far too small to hold them, run by the small-heap test execution.
+ */
+@Tag("small-heap")
+class TaskExportServiceImplTest {
+
+    private static final int TASKS = 1_000_000;
+    private static final int CHUNK_SIZE = 50_000;
+    private static final long USER_ID = 1;
+
+    @TempDir
+    static Path directory;
+
+    private static SingleConnectionDataSource dataSource;
+    private static TaskExportService taskExportService;
+
+    @BeforeAll
+    static void setUp() {
+        // File database with a small cache, an in-memory one would hold every row on the heap
+        dataSource = new SingleConnectionDataSource("jdbc:h2:file:" + directory.resolve("export") + ";CACHE_SIZE=2048", true);
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                create table task (
+                    id bigint primary key, user_id bigint not null, reference_id uuid not null,
+                    description varchar(255) not null, event_date date not null, priority integer not null,
+                    date_created timestamp, recurrence_frequency varchar(16), recurrence_interval integer,
+                    recurrence_until date, deleted_at timestamp
+                )
+                """);
+
+        // Committed in chunks, a single transaction keeps its undo log on the heap
+        for (int first = 1; first <= TASKS; first += CHUNK_SIZE)
+            jdbcTemplate.update("""
+                    insert into task (id, user_id, reference_id, description, event_date, priority, date_created)
+                    select x, ?, random_uuid(), 'Task, number ' || x, dateadd(day, mod(x, 3650), date '2020-01-01'), mod(x, 4), localtimestamp
+                    from system_range(?, ?)
+                    """, USER_ID, first, first + CHUNK_SIZE - 1);
+
+        // H2 sorts on the heap unless an index already has the export's order
+        jdbcTemplate.execute("create index idx_task_event_date_id on task (event_date, id)");
+
+        AuthenticationService authenticationService = mock(AuthenticationService.class);
+        when(authenticationService.getAuthenticatedIdentity())
+                .thenReturn(new AuthenticatedIdentity(USER_ID, UUID.randomUUID(), "user@example.com", List.of("USER"), AccountStatus.ACTIVE, 0));
+
+        taskExportService = new TaskExportServiceImpl(
+                authenticationService, mock(TaskRepository.class), mock(TaskOccurrenceExpander.class), new ObjectMapper(), dataSource, 1000, 3660);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Test
+    void exportsEveryTaskAsNdjson() throws IOException {
+        LineCounter lineCounter = new LineCounter();
+
+        taskExportService.exportTasks(ExportFormat.NDJSON, null, null, lineCounter);
+
+        assertEquals(TASKS, lineCounter.lines);
+    }
+
+    @Test
+    void exportsEveryTaskAsCsv() throws IOException {
+        LineCounter lineCounter = new LineCounter();
+
+        taskExportService.exportTasks(ExportFormat.CSV, null, null, lineCounter);
+
+        // Header and one line per task, descriptions hold separators but no line breaks
+        assertEquals(TASKS + 1, lineCounter.lines);
+    }
+
+    /**
+     * Discards what's written, only counting the lines.
+     */
+    private static final class LineCounter extends OutputStream {
+        private long lines;
+
+        @Override
+        public void write(int b) {
+            if (b == '\n')
+                lines++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++)
+                write(b[i]);
+        }
+    }
+}
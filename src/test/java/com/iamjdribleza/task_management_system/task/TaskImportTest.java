@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.iamjdribleza.task_management_system.ApiTestSupport;
+import com.iamjdribleza.task_management_system.auth.AuthenticatedIdentity;
+import com.iamjdribleza.task_management_system.enums.ExportFormat;
+import com.iamjdribleza.task_management_system.user.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskImportTest extends ApiTestSupport {
+
+    @Autowired
+    private TaskImportService taskImportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void rowsReusingAReferenceIdAreRejectedOneByOne() throws Exception {
+        String token = login(createUser());
+        UUID referenceId = UUID.randomUUID();
+
+        JsonNode result = json(send(token, "POST", "/api/v1/tasks/import?format=NDJSON",
+                row(null, "first") + row(null, "second") + row(referenceId, "third") + row(referenceId, "fourth")));
+
+        assertEquals(3, result.get("importedRows").asLong());
+        assertEquals(1, result.get("failedRows").asLong());
+        assertEquals(4, result.get("nextRow").asLong());
+        assertTrue(result.get("completed").asBoolean());
+        assertEquals(4, result.get("errors").get(0).get("row").asLong());
+    }
+
+    @Test
+    void deletedTasksKeepTheirReferenceIds() throws Exception {
+        String token = login(createUser());
+        UUID referenceId = UUID.randomUUID();
+
+        send(token, "POST", "/api/v1/tasks/import?format=NDJSON", row(referenceId, "deleted"));
+        assertEquals(204, send(token, "DELETE", "/api/v1/tasks/" + referenceId, null).statusCode());
+
+        JsonNode result = json(send(token, "POST", "/api/v1/tasks/import?format=NDJSON",
+                row(referenceId, "again") + row(null, "other")));
+
+        assertEquals(1, result.get("importedRows").asLong());
+        assertEquals(1, result.get("failedRows").asLong());
+        assertTrue(result.get("completed").asBoolean());
+    }
+
+    @Test
+    void importedChunksReachTheReadModels() throws Exception {
+        String token = login(createUser());
+
+        HttpResponse<String> before = send(token, "GET", "/api/v1/tasks/today?pageOffset=0", null);
+        String eTag = before.headers().firstValue("ETag").orElseThrow();
+        assertEquals(0, json(before).get("content").size());
+
+        send(token, "POST", "/api/v1/tasks/import?format=NDJSON", row(null, "imported groceries") + row(null, "imported laundry"));
+
+        HttpResponse<String> after = send(token, "GET", "/api/v1/tasks/today?pageOffset=0", null, "If-None-Match", eTag);
+        assertEquals(200, after.statusCode());
+        assertEquals(2, json(after).get("content").size());
+
+        JsonNode found = json(send(token, "GET", "/api/v1/tasks/search?query=groceries", null));
+        assertEquals(1, found.get("content").size());
+    }
+
+    @Test
+    void abortedUploadReturnsWhatWasCommitted() throws Exception {
+        User user = createUser();
+        TestingAuthenticationToken authentication = new TestingAuthenticationToken(user.getAuthentication().getEmail(), null);
+        authentication.setDetails(AuthenticatedIdentity.from(user));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        String rows = row(null, "uploaded").repeat(600);
+
+        // A full chunk of 500 rows is committed before the upload breaks off
+        InputStream aborted = new SequenceInputStream(new ByteArrayInputStream(rows.getBytes(StandardCharsets.UTF_8)), new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("Connection reset");
+            }
+        });
+
+        TaskImportResultDto result = taskImportService.importTasks(ExportFormat.NDJSON, aborted, 0);
+
+        assertFalse(result.completed());
+        assertEquals(500, result.importedRows());
+        assertEquals(500, result.nextRow());
+        assertTrue(result.errors().getFirst().message().contains("Connection reset"));
+
+        TaskImportResultDto resumed = taskImportService.importTasks(ExportFormat.NDJSON,
+                new ByteArrayInputStream(rows.getBytes(StandardCharsets.UTF_8)), result.nextRow());
+
+        assertTrue(resumed.completed());
+        assertEquals(100, resumed.importedRows());
+        assertEquals(600, jdbcTemplate.queryForObject("select count(*) from task where user_id = ?", Long.class, user.getId()));
+    }
+
+    private static String row(UUID referenceId, String description) {
+        String id = (referenceId == null)? "": "\"referenceId\":\"" + referenceId + "\",";
+
+        return "{" + id + "\"description\":\"" + description + "\",\"eventDate\":\"" + LocalDate.now() + "\",\"priority\":\"LOW\"}\n";
+    }
+}
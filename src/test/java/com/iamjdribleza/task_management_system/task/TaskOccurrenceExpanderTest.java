@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import com.iamjdribleza.task_management_system.enums.Priority;
+import com.iamjdribleza.task_management_system.enums.RecurrenceFrequency;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TaskOccurrenceExpanderTest {
+
+    private static final long USER_ID = 1;
+    private static final LocalDate FROM = LocalDate.of(2025, 3, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 3, 31);
+
+    private TaskRepository taskRepository;
+    private TaskOccurrenceOverrideRepository taskOccurrenceOverrideRepository;
+    private TaskOccurrenceExpander taskOccurrenceExpander;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository = mock(TaskRepository.class);
+        taskOccurrenceOverrideRepository = mock(TaskOccurrenceOverrideRepository.class);
+        taskOccurrenceExpander = new TaskOccurrenceExpander(taskRepository, taskOccurrenceOverrideRepository);
+    }
+
+    @Test
+    void mergesSeriesByEventDate() {
+        TaskView daily = task(1, "daily", LocalDate.of(2025, 1, 1), new Recurrence(RecurrenceFrequency.DAILY, 10, null));
+        TaskView weekly = task(2, "weekly", LocalDate.of(2025, 3, 2), new Recurrence(RecurrenceFrequency.WEEKLY, 1, null));
+        when(taskRepository.findRecurringViewsByUserIdAndDateRange(USER_ID, FROM, TO)).thenReturn(List.of(daily, weekly));
+
+        List<TaskOccurrence> occurrences = taskOccurrenceExpander.expand(USER_ID, FROM, TO);
+
+        assertEquals(List.of(
+                "daily@2025-03-02", "weekly@2025-03-02", "weekly@2025-03-09", "daily@2025-03-12",
+                "weekly@2025-03-16", "daily@2025-03-22", "weekly@2025-03-23", "weekly@2025-03-30"
+        ), describe(occurrences));
+    }
+
+    @Test
+    void appliesOverridesInEventDateOrder() {
+        TaskView daily = task(1, "daily", LocalDate.of(2025, 3, 1), new Recurrence(RecurrenceFrequency.DAILY, 7, null));
+        TaskView quarterly = task(2, "quarterly", LocalDate.of(2025, 1, 15), new Recurrence(RecurrenceFrequency.MONTHLY, 3, null));
+        when(taskRepository.findRecurringViewsByUserIdAndDateRange(USER_ID, FROM, TO)).thenReturn(List.of(daily));
+        when(taskOccurrenceOverrideRepository.findViewsByUserIdAndDateRange(USER_ID, FROM, TO)).thenReturn(List.of(
+                // Moved behind a later occurrence of its own series
+                new TaskOccurrenceOverrideView(1, LocalDate.of(2025, 3, 8), false, "moved", LocalDate.of(2025, 3, 20), null),
+                new TaskOccurrenceOverrideView(1, LocalDate.of(2025, 3, 22), true, null, null, null),
+                // Moved into the range from a series with no other occurrence in it
+                new TaskOccurrenceOverrideView(2, LocalDate.of(2025, 4, 15), false, null, LocalDate.of(2025, 3, 3), Priority.HIGH)
+        ));
+        when(taskRepository.findRecurringViewsByIdIn(Set.of(2L))).thenReturn(List.of(quarterly));
+
+        List<TaskOccurrence> occurrences = taskOccurrenceExpander.expand(USER_ID, FROM, TO);
+
+        assertEquals(List.of(
+                "daily@2025-03-01", "quarterly@2025-03-03", "daily@2025-03-15", "moved@2025-03-20", "daily@2025-03-29"
+        ), describe(occurrences));
+        assertEquals(LocalDate.of(2025, 4, 15), occurrences.get(1).occurrenceDate());
+        assertEquals(Priority.HIGH, occurrences.get(1).task().priority());
+        assertEquals(LocalDate.of(2025, 3, 8), occurrences.get(3).occurrenceDate());
+    }
+
+    @Test
+    void streamsLongRangesLazily() {
+        TaskView daily = task(1, "daily", LocalDate.of(2025, 1, 1), new Recurrence(RecurrenceFrequency.DAILY, 1, null));
+        LocalDate last = LocalDate.of(9999, 12, 31);
+        when(taskRepository.findRecurringViewsByUserIdAndDateRange(anyLong(), any(), any())).thenReturn(List.of(daily));
+
+        List<TaskOccurrence> occurrences = taskOccurrenceExpander.stream(USER_ID, FROM, last).limit(3).toList();
+
+        assertEquals(List.of("daily@2025-03-01", "daily@2025-03-02", "daily@2025-03-03"), describe(occurrences));
+    }
+
+    private static List<String> describe(List<TaskOccurrence> occurrences) {
+        return occurrences.stream()
+                .map(occurrence -> occurrence.task().description() + "@" + occurrence.task().eventDate())
+                .toList();
+    }
+
+    private static TaskView task(long id, String description, LocalDate eventDate, Recurrence recurrence) {
+        return new TaskView(id, UUID.randomUUID(), description, eventDate, Priority.LOW, LocalDateTime.now(), null, USER_ID, recurrence, 0);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.iamjdribleza.task_management_system.ApiTestSupport;
+import com.iamjdribleza.task_management_system.enums.Priority;
+import org.junit.jupiter.api.Test;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskScrollTest extends ApiTestSupport {
+
+    private static final Comparator<JsonNode> LISTING_ORDER = Comparator
+            .comparing((JsonNode task) -> LocalDate.parse(task.get("eventDate").asText()))
+            .thenComparing(task -> Priority.valueOf(task.get("priority").asText()))
+            .reversed();
+
+    @Test
+    void scrollingVisitsEveryTaskOnceInListingOrder() throws Exception {
+        String token = login(createUser());
+        StringBuilder rows = new StringBuilder();
+
+        // Ties on date and priority, so the id decides the order too
+        for (int i = 0; i < 25; i++) {
+            rows.append("{\"description\":\"task ").append(i)
+                    .append("\",\"eventDate\":\"").append(LocalDate.of(2025, 1, 1 + i % 3))
+                    .append("\",\"priority\":\"").append(Priority.values()[i % 2])
+                    .append("\"}\n");
+        }
+
+        send(token, "POST", "/api/v1/tasks/import?format=NDJSON", rows.toString());
+
+        List<JsonNode> visited = new ArrayList<>();
+        String cursor = null;
+
+        do {
+            String path = "/api/v1/tasks/scroll" + ((cursor == null)? "": "?cursor=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8));
+            JsonNode slice = json(send(token, "GET", path, null));
+
+            slice.get("content").forEach(visited::add);
+            cursor = slice.get("next").isNull()? null: slice.get("next").asText();
+        } while (cursor != null);
+
+        assertEquals(25, visited.size());
+        assertEquals(25, visited.stream().map(task -> task.get("referenceId").asText()).distinct().count());
+
+        List<JsonNode> sorted = new ArrayList<>(visited);
+        sorted.sort(LISTING_ORDER);
+        assertEquals(sorted, visited);
+    }
+
+    @Test
+    void malformedCursorIsABadRequest() throws Exception {
+        String token = login(createUser());
+
+        assertEquals(400, send(token, "GET", "/api/v1/tasks/scroll?cursor=garbage", null).statusCode());
+    }
+}
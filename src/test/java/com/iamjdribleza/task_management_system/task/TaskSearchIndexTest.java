@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import com.iamjdribleza.task_management_system.ApiTestSupport;
+import com.iamjdribleza.task_management_system.user.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TaskSearchIndexTest extends ApiTestSupport {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void writesOfThisNodeAreIndexedWithoutLoading() throws Exception {
+        String token = login(createUser());
+
+        double misses = misses();
+        assertEquals(0, total(token, "groceries"));
+
+        send(token, "POST", "/api/v1/tasks", "{\"description\":\"Buy groceries\",\"eventDate\":\"" + LocalDate.now() + "\",\"priority\":\"LOW\"}");
+
+        assertEquals(1, total(token, "groceries"));
+        assertEquals(1, misses() - misses);
+    }
+
+    @Test
+    void writesOfAnotherNodeMakeTheIndexLoadAgain() throws Exception {
+        User user = createUser();
+        String token = login(user);
+        UUID referenceId = UUID.randomUUID();
+
+        assertEquals(0, total(token, "remote"));
+
+        // What a create committed by another node leaves in the database
+        jdbcTemplate.update("""
+                insert into task (id, reference_id, description, event_date, priority, user_id, version)
+                values (next value for task_seq, ?, 'remote task', current_date, 0, ?, 0)
+                """, referenceId, user.getId());
+        jdbcTemplate.update("update app_user set tasks_version = tasks_version + 1 where id = ?", user.getId());
+
+        assertEquals(1, total(token, "remote"));
+
+        // And a delete
+        jdbcTemplate.update("update task set deleted_at = current_timestamp where reference_id = ?", referenceId);
+        jdbcTemplate.update("update app_user set tasks_version = tasks_version + 1 where id = ?", user.getId());
+
+        assertEquals(0, total(token, "remote"));
+    }
+
+    private long total(String token, String query) throws Exception {
+        return json(send(token, "GET", "/api/v1/tasks/search?query=" + query, null)).get("totalElements").asLong();
+    }
+
+    private double misses() {
+        return meterRegistry.get("cache.gets").tag("cache", "task.search").tag("result", "miss").functionCounter().count();
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import com.iamjdribleza.task_management_system.ApiTestSupport;
+import com.iamjdribleza.task_management_system.user.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TaskTodayIndexTest extends ApiTestSupport {
+
+    private static final String TODAY = "/api/v1/tasks/today?pageOffset=0";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void writesOfThisNodeAreAppliedWithoutLoading() throws Exception {
+        String token = login(createUser());
+
+        double misses = misses();
+        assertEquals(0, json(send(token, "GET", TODAY, null)).get("content").size());
+
+        send(token, "POST", "/api/v1/tasks", "{\"description\":\"local\",\"eventDate\":\"" + LocalDate.now() + "\",\"priority\":\"LOW\"}");
+
+        assertEquals(1, json(send(token, "GET", TODAY, null)).get("content").size());
+        assertEquals(1, misses() - misses);
+    }
+
+    @Test
+    void writesOfAnotherNodeMakeTheDayLoadAgain() throws Exception {
+        User user = createUser();
+        String token = login(user);
+
+        assertEquals(0, json(send(token, "GET", TODAY, null)).get("content").size());
+
+        // What a create committed by another node leaves in the database
+        jdbcTemplate.update("""
+                insert into task (id, reference_id, description, event_date, priority, user_id, version)
+                values (next value for task_seq, ?, 'remote', current_date, 0, ?, 0)
+                """, UUID.randomUUID(), user.getId());
+        jdbcTemplate.update("update app_user set tasks_version = tasks_version + 1 where id = ?", user.getId());
+
+        assertEquals(1, json(send(token, "GET", TODAY, null)).get("content").size());
+    }
+
+    private double misses() {
+        return meterRegistry.get("cache.gets").tag("cache", "task.today").tag("result", "miss").functionCounter().count();
+    }
+}
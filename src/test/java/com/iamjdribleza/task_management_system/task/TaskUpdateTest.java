@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import com.iamjdribleza.task_management_system.ApiTestSupport;
+import com.iamjdribleza.task_management_system.enums.Priority;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TaskUpdateTest extends ApiTestSupport {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void descriptionOnlyPatchKeepsTheOtherFields() throws Exception {
+        String token = login(createUser());
+        LocalDate today = LocalDate.now();
+        String refId = createTask(token, today);
+        long version = version(refId);
+
+        HttpResponse<String> response = send(token, "PATCH", "/api/v1/tasks/" + refId,
+                "{\"description\":\"renamed\"}", "If-Match", quoted(version));
+
+        assertEquals(204, response.statusCode(), response.body());
+        assertEquals(quoted(version + 1), response.headers().firstValue("ETag").orElseThrow());
+        Task task = task(refId);
+        assertEquals("renamed", task.getDescription());
+        assertEquals(today, task.getEventDate());
+        assertEquals(Priority.LOW, task.getPriority());
+    }
+
+    @Test
+    void loadedPatchKeepsTheOtherFields() throws Exception {
+        String token = login(createUser());
+        LocalDate today = LocalDate.now();
+        String refId = createTask(token, today);
+        long version = version(refId);
+
+        HttpResponse<String> response = send(token, "PATCH", "/api/v1/tasks/" + refId,
+                "{\"priority\":\"HIGH\"}", "If-Match", quoted(version));
+
+        assertEquals(204, response.statusCode(), response.body());
+        assertEquals(quoted(version + 1), response.headers().firstValue("ETag").orElseThrow());
+        Task task = task(refId);
+        assertEquals("task", task.getDescription());
+        assertEquals(today, task.getEventDate());
+        assertEquals(Priority.HIGH, task.getPriority());
+    }
+
+    @Test
+    void staleTagFailsThePrecondition() throws Exception {
+        String token = login(createUser());
+        String refId = createTask(token, LocalDate.now());
+        String stale = quoted(version(refId));
+
+        assertEquals(204, send(token, "PATCH", "/api/v1/tasks/" + refId, "{\"description\":\"first\"}", "If-Match", stale).statusCode());
+
+        // Both the description-only update and the loaded one check the version
+        assertEquals(412, send(token, "PATCH", "/api/v1/tasks/" + refId, "{\"description\":\"second\"}", "If-Match", stale).statusCode());
+        assertEquals(412, send(token, "PATCH", "/api/v1/tasks/" + refId, "{\"priority\":\"HIGH\"}", "If-Match", stale).statusCode());
+
+        assertEquals("first", task(refId).getDescription());
+        assertEquals(Priority.LOW, task(refId).getPriority());
+    }
+
+    @Test
+    void weakTagFailsThePrecondition() throws Exception {
+        String token = login(createUser());
+        String refId = createTask(token, LocalDate.now());
+        long version = version(refId);
+
+        HttpResponse<String> response = send(token, "PATCH", "/api/v1/tasks/" + refId,
+                "{\"description\":\"renamed\"}", "If-Match", "W/" + quoted(version));
+
+        assertEquals(412, response.statusCode(), response.body());
+        assertEquals("task", task(refId).getDescription());
+        assertEquals(version, version(refId));
+    }
+
+    @Test
+    void concurrentWriteFailsThePrecondition() throws Exception {
+        String token = login(createUser());
+        String refId = createTask(token, LocalDate.now());
+
+        // Holds the row's lock, the patch loads the committed version and its update waits for the lock
+        CompletableFuture<HttpResponse<String>> patch = new TransactionTemplate(transactionManager).execute(status -> {
+            jdbcTemplate.update("update task set version = version + 1 where reference_id = ?", UUID.fromString(refId));
+
+            HttpRequest request = HttpRequest.newBuilder(uri("/api/v1/tasks/" + refId))
+                    .header("Content-Type", "application/json")
+                    .header("Authorization", "Bearer " + token)
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"priority\":\"HIGH\"}"))
+                    .build();
+
+            CompletableFuture<HttpResponse<String>> pending = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+            sleep(500);
+
+            return pending;
+        });
+
+        // No If-Match, so only the version checked by the update itself fails it
+        HttpResponse<String> response = patch.get(10, TimeUnit.SECONDS);
+
+        assertEquals(412, response.statusCode(), response.body());
+        assertEquals("Resource was changed by another request", json(response).get("detail").asText());
+        assertEquals(Priority.LOW, task(refId).getPriority());
+    }
+
+    private String createTask(String token, LocalDate eventDate) throws Exception {
+        HttpResponse<String> response = send(token, "POST", "/api/v1/tasks",
+                "{\"description\":\"task\",\"eventDate\":\"" + eventDate + "\",\"priority\":\"LOW\"}");
+
+        assertEquals(201, response.statusCode(), response.body());
+        String location = response.headers().firstValue("Location").orElseThrow();
+
+        return location.substring(location.lastIndexOf('/') + 1);
+    }
+
+    private Task task(String refId) {
+        return taskRepository.findByReferenceId(UUID.fromString(refId)).orElseThrow();
+    }
+
+    private long version(String refId) {
+        return task(refId).getVersion();
+    }
+
+    private static String quoted(long version) {
+        return "\"" + version + "\"";
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
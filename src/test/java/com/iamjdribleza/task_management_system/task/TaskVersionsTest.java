@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import com.iamjdribleza.task_management_system.ApiTestSupport;
+import com.iamjdribleza.task_management_system.user.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class TaskVersionsTest extends ApiTestSupport {
+
+    private static final String TODAY = "/api/v1/tasks/today?pageOffset=0";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void listTagChangesWithEveryWrite() throws Exception {
+        String token = login(createUser());
+        String eTag = eTag(send(token, "GET", TODAY, null));
+
+        assertEquals(304, send(token, "GET", TODAY, null, "If-None-Match", eTag).statusCode());
+
+        createTask(token);
+
+        HttpResponse<String> response = send(token, "GET", TODAY, null, "If-None-Match", eTag);
+        assertEquals(200, response.statusCode());
+        assertNotEquals(eTag, eTag(response));
+    }
+
+    @Test
+    void tagsFollowWritesOfAnotherNode() throws Exception {
+        User user = createUser();
+        String token = login(user);
+        String referenceId = createTask(token);
+
+        String listETag = eTag(send(token, "GET", TODAY, null));
+        String taskETag = eTag(send(token, "GET", "/api/v1/tasks/" + referenceId, null));
+
+        // What an update committed by another node leaves in the database
+        jdbcTemplate.update("update task set description = 'changed', version = version + 1 where reference_id = ?",
+                UUID.fromString(referenceId));
+        jdbcTemplate.update("update app_user set tasks_version = tasks_version + 1 where id = ?", user.getId());
+
+        assertEquals(200, send(token, "GET", TODAY, null, "If-None-Match", listETag).statusCode());
+        assertEquals(200, send(token, "GET", "/api/v1/tasks/" + referenceId, null, "If-None-Match", taskETag).statusCode());
+    }
+
+    @Test
+    void cachedTaskFollowsWritesOfAnotherNode() throws Exception {
+        String token = login(createUser());
+        String referenceId = createTask(token);
+        String path = "/api/v1/tasks/" + referenceId;
+
+        // Cached on this node
+        String eTag = eTag(send(token, "GET", path, null));
+
+        jdbcTemplate.update("update task set description = 'changed', version = version + 1 where reference_id = ?",
+                UUID.fromString(referenceId));
+
+        HttpResponse<String> response = send(token, "GET", path, null);
+        assertEquals("changed", json(response).get("description").asText());
+        assertNotEquals(eTag, eTag(response));
+
+        // The tag served is the one the update is checked against
+        assertEquals(204, send(token, "PATCH", path, "{\"description\":\"again\"}", "If-Match", eTag(response)).statusCode());
+        assertEquals("again", json(send(token, "GET", path, null)).get("description").asText());
+    }
+
+    private String createTask(String token) throws Exception {
+        HttpResponse<String> response = send(token, "POST", "/api/v1/tasks",
+                "{\"description\":\"task\",\"eventDate\":\"" + LocalDate.now() + "\",\"priority\":\"LOW\"}");
+        String location = response.headers().firstValue("Location").orElseThrow();
+
+        return location.substring(location.lastIndexOf('/') + 1);
+    }
+
+    private static String eTag(HttpResponse<String> response) {
+        return response.headers().firstValue("ETag").orElseThrow();
+    }
+}
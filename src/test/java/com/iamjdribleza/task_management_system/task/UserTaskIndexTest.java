@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.task;
+
+import com.iamjdribleza.task_management_system.enums.Priority;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserTaskIndexTest {
+
+    private final UserTaskIndex index = new UserTaskIndex(0);
+
+    @Test
+    void tokenizesIntoLowerCasedWordsWithoutAccents() {
+        assertEquals(List.of("cafe", "meeting", "at", "10h30"), UserTaskIndex.tokenize("Café MEETING, at 10h30!"));
+        assertEquals(List.of(), UserTaskIndex.tokenize(null));
+        assertEquals(List.of(), UserTaskIndex.tokenize("  "));
+        assertEquals(32, UserTaskIndex.tokenize("a".repeat(40)).getFirst().length());
+    }
+
+    @Test
+    void matchesEveryQueryTermAsAPrefix() {
+        TaskView groceries = task(1, "Buy groceries at the market");
+        TaskView gift = task(2, "Buy a birthday gift");
+        index.put(groceries);
+        index.put(gift);
+
+        assertEquals(List.of(groceries), search("buy groc").tasks());
+        assertEquals(2, search("bu").total());
+        assertEquals(0, search("buy shoes").total());
+        assertEquals(0, search("").total());
+    }
+
+    @Test
+    void ranksByScoreThenLatestEventDate() {
+        TaskView once = task(1, "call the bank", LocalDate.of(2025, 1, 1));
+        TaskView twice = task(2, "call the bank and call back", LocalDate.of(2025, 1, 1));
+        TaskView later = task(3, "call the bank", LocalDate.of(2025, 6, 1));
+        index.put(once);
+        index.put(twice);
+        index.put(later);
+
+        assertEquals(List.of(twice, later, once), search("call").tasks());
+    }
+
+    @Test
+    void pagesThroughRankedTasks() {
+        for (int i = 0; i < 10; i++)
+            index.put(task(i, "report", LocalDate.of(2025, 1, 1 + i)));
+
+        UserTaskIndex.SearchResult page = index.search(List.of("report"), 3, 4);
+
+        assertEquals(10, page.total());
+        assertEquals(List.of(6L, 5L, 4L, 3L), page.tasks().stream().map(TaskView::id).toList());
+        assertEquals(List.of(), index.search(List.of("report"), 10, 4).tasks());
+    }
+
+    @Test
+    void putReplacesAndRemoveForgets() {
+        TaskView task = task(1, "water the plants");
+        index.put(task);
+        index.put(new TaskView(1, task.referenceId(), "feed the cat", task.eventDate(), task.priority(),
+                task.dateCreated(), task.dateUpdated(), task.userId(), null, 1));
+
+        assertEquals(0, search("water").total());
+        assertEquals(1, search("cat").total());
+
+        index.remove(task.referenceId());
+
+        assertEquals(0, search("cat").total());
+    }
+
+    @Test
+    void staysConsistentAcrossCompactions() {
+        List<TaskView> tasks = new ArrayList<>();
+
+        for (int i = 0; i < 100; i++) {
+            TaskView task = task(i, "task number" + i);
+            tasks.add(task);
+            index.put(task);
+        }
+
+        // Removing most documents triggers compactions on the way
+        for (int i = 0; i < 90; i++)
+            index.remove(tasks.get(i).referenceId());
+
+        assertEquals(10, search("task").total());
+        assertEquals(List.of(tasks.get(95)), search("number95").tasks());
+        assertEquals(0, search("number5").total());
+    }
+
+    @Test
+    void appliesOnlyTheNextVersion() {
+        TaskView task = task(1, "old description");
+
+        assertTrue(index.advance(1, advancing -> advancing.put(task)));
+        assertFalse(index.advance(3, advancing -> advancing.remove(task.referenceId())));
+
+        assertEquals(1, index.version());
+        assertEquals(List.of(task), search("old").tasks());
+    }
+
+    @Test
+    void keepsTheMoreRecentVersionOfATask() {
+        TaskView task = task(1, "old description");
+        TaskView updated = new TaskView(1, task.referenceId(), "new description", task.eventDate(), task.priority(),
+                task.dateCreated(), task.dateUpdated(), task.userId(), null, 1);
+
+        index.put(updated);
+        index.put(task);
+
+        assertEquals(0, search("old").total());
+        assertEquals(List.of(updated), search("new").tasks());
+    }
+
+    private UserTaskIndex.SearchResult search(String query) {
+        return index.search(UserTaskIndex.tokenize(query), 0, 20);
+    }
+
+    private static TaskView task(long id, String description) {
+        return task(id, UUID.randomUUID(), description);
+    }
+
+    private static TaskView task(long id, UUID referenceId, String description) {
+        return new TaskView(id, referenceId, description, LocalDate.of(2025, 1, 1), Priority.LOW,
+                LocalDateTime.now(), LocalDateTime.now(), 1, null, 0);
+    }
+
+    private static TaskView task(long id, String description, LocalDate eventDate) {
+        return new TaskView(id, UUID.randomUUID(), description, eventDate, Priority.LOW,
+                LocalDateTime.now(), LocalDateTime.now(), 1, null, 0);
+    }
+}
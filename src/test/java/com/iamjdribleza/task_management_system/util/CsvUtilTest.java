@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2025.
+ * Jann Dervin Ribleza.
+ * All Right Reserved.
+ */
+
+package com.iamjdribleza.task_management_system.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvUtilTest {
+
+    @Test
+    void escapeLeavesPlainValues() {
+        assertEquals("Buy milk", CsvUtil.escape("Buy milk"));
+        assertEquals("", CsvUtil.escape(""));
+    }
+
+    @Test
+    void escapeQuotesSpecialCharacters() {
+        assertEquals("\"a,b\"", CsvUtil.escape("a,b"));
+        assertEquals("\"say \"\"hi\"\"\"", CsvUtil.escape("say \"hi\""));
+        assertEquals("\"line\nbreak\"", CsvUtil.escape("line\nbreak"));
+        assertEquals("\"line\rbreak\"", CsvUtil.escape("line\rbreak"));
+    }
+
+    @Test
+    void readRecordSplitsFieldsAndLines() throws IOException {
+        BufferedReader reader = reader("a,b,c\r\n1,,3\n");
+
+        assertEquals(List.of("a", "b", "c"), CsvUtil.readRecord(reader));
+        assertEquals(List.of("1", "", "3"), CsvUtil.readRecord(reader));
+        assertNull(CsvUtil.readRecord(reader));
+    }
+
+    @Test
+    void readRecordUnquotesFields() throws IOException {
+        BufferedReader reader = reader("\"a,b\",\"say \"\"hi\"\"\",\"two\nlines\"\nnext\n");
+
+        assertEquals(List.of("a,b", "say \"hi\"", "two\nlines"), CsvUtil.readRecord(reader));
+        assertEquals(List.of("next"), CsvUtil.readRecord(reader));
+    }
+
+    @Test
+    void readRecordAcceptsMissingTrailingLineBreak() throws IOException {
+        BufferedReader reader = reader("a,\"b\"");
+
+        assertEquals(List.of("a", "b"), CsvUtil.readRecord(reader));
+        assertNull(CsvUtil.readRecord(reader));
+    }
+
+    @Test
+    void escapedValuesReadBack() throws IOException {
+        List<String> values = List.of("plain", "a,b", "\"quoted\"", "multi\r\nline", "");
+        String line = String.join(",", values.stream().map(CsvUtil::escape).toList()) + "\n";
+
+        assertEquals(values, CsvUtil.readRecord(reader(line)));
+    }
+
+    private static BufferedReader reader(String csv) {
+        return new BufferedReader(new StringReader(csv));
+    }
+}